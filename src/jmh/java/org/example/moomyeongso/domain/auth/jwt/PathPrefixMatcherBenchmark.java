@@ -0,0 +1,60 @@
+package org.example.moomyeongso.domain.auth.jwt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 필터가 요청마다 하는 경로 판단 비용 비교.
+ * streamAnyMatch는 기존 구현(configuredPaths.stream().anyMatch(path::startsWith)), compiledTrie는 세그먼트 경계까지 확인하는 PathPrefixMatcher다.
+ * 요청당 할당량은 gc 프로파일러의 gc.alloc.rate.norm으로 보며 compiledTrie는 0이어야 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathPrefixMatcherBenchmark {
+
+    // application.yml의 ignore-paths + optional-auth-paths
+    private static final List<String> CONFIGURED_PATHS = List.of(
+            "/auth/anonymous",
+            "/auth/reissue",
+            "/notifications/metrics/today",
+            "/auth/login",
+            "/auth/signup"
+    );
+
+    // 대부분의 요청은 어느 접두사에도 해당하지 않는 인증 경로다
+    @Param({"/posts/6650a1b2c3d4e5f601234567", "/auth/signup", "/notifications/metrics/today"})
+    public String path;
+
+    private PathPrefixMatcher matcher;
+
+    @Setup
+    public void setUp() {
+        matcher = PathPrefixMatcher.of(CONFIGURED_PATHS);
+    }
+
+    @Benchmark
+    public boolean streamAnyMatch() {
+        return CONFIGURED_PATHS.stream().anyMatch(path::startsWith);
+    }
+
+    @Benchmark
+    public boolean compiledTrie() {
+        return matcher.matches(path);
+    }
+}
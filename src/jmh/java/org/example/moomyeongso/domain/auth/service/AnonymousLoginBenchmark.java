@@ -0,0 +1,130 @@
+package org.example.moomyeongso.domain.auth.service;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.example.moomyeongso.domain.auth.dto.response.LoginResponseDto;
+import org.example.moomyeongso.domain.auth.entity.RefreshToken;
+import org.example.moomyeongso.domain.auth.jwt.JwtTokenProvider;
+import org.example.moomyeongso.domain.auth.jwt.RefreshTokenHasher;
+import org.example.moomyeongso.domain.auth.repository.RefreshTokenRepository;
+import org.example.moomyeongso.domain.user.entity.User;
+import org.example.moomyeongso.domain.user.entity.UserRole;
+import org.example.moomyeongso.domain.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 익명 로그인 처리량(ops/s) 비교. 동시 요청을 흉내 내기 위해 8개 스레드로 호출한다.
+ * fastPath는 AuthService.loginAsAnonymous, legacyPath는 이전 구현(사용자 저장 → 토큰 선삭제 → BCrypt → 토큰 저장)이다.
+ * legacyPath는 트랜잭션을 열지 않으므로 실제 이전 구현보다 빠르게 측정된다(이전 비용의 하한).
+ *
+ * 실제 Mongo가 필요하므로 -Pjmh.mongo.uri 로 벤치마크 전용 DB를 지정해야 한다. 해당 DB의 users, refresh_tokens 컬렉션은 매번 비워진다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class AnonymousLoginBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-0123456789";
+
+    private MongoClient mongoClient;
+    private MongoTemplate mongoTemplate;
+    private UserRepository userRepository;
+    private RefreshTokenRepository refreshTokenRepository;
+    private JwtTokenProvider jwtTokenProvider;
+    private BCryptPasswordEncoder passwordEncoder;
+    private AuthService authService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String uri = System.getProperty("jmh.mongo.uri");
+        if (uri == null || uri.isBlank()) {
+            throw new IllegalStateException("jmh.mongo.uri is required, e.g. -Pjmh.mongo.uri=mongodb://localhost:27017/moomyeongso-bench");
+        }
+
+        mongoClient = MongoClients.create(uri);
+        String database = new ConnectionString(uri).getDatabase();
+        mongoTemplate = new MongoTemplate(mongoClient, database == null ? "moomyeongso-bench" : database);
+        resetCollection(User.class);
+        resetCollection(RefreshToken.class);
+
+        MongoRepositoryFactory repositoryFactory = new MongoRepositoryFactory(mongoTemplate);
+        userRepository = repositoryFactory.getRepository(UserRepository.class);
+        refreshTokenRepository = repositoryFactory.getRepository(RefreshTokenRepository.class);
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 1_800_000L);
+        passwordEncoder = new BCryptPasswordEncoder();
+        // 익명 로그인에 쓰이지 않는 의존성은 비워 둔다
+        authService = new AuthService(
+                userRepository,
+                refreshTokenRepository,
+                jwtTokenProvider,
+                null,
+                null,
+                null,
+                null,
+                null,
+                new RefreshTokenHasher(SECRET)
+        );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        mongoTemplate.dropCollection(User.class);
+        mongoTemplate.dropCollection(RefreshToken.class);
+        mongoClient.close();
+    }
+
+    @Benchmark
+    public LoginResponseDto fastPath() {
+        return authService.loginAsAnonymous();
+    }
+
+    @Benchmark
+    public LoginResponseDto legacyPath() {
+        User user = userRepository.save(User.builder()
+                .userRole(UserRole.ANONYMOUS)
+                .expiresAt(LocalDateTime.now().plusDays(7))
+                .build());
+        String accessToken = jwtTokenProvider.createAccessToken(user.getId(), user.getUserRole().name());
+        String rawRefreshToken = UUID.randomUUID().toString();
+
+        refreshTokenRepository.deleteByUserId(user.getId());
+        refreshTokenRepository.save(RefreshToken.builder()
+                .userId(user.getId())
+                .token(passwordEncoder.encode(rawRefreshToken))
+                .expiryDate(LocalDateTime.now().plusDays(14))
+                .build());
+        return LoginResponseDto.of(user, accessToken, rawRefreshToken);
+    }
+
+    private void resetCollection(Class<?> entityClass) {
+        mongoTemplate.dropCollection(entityClass);
+        new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext())
+                .resolveIndexFor(entityClass)
+                .forEach(index -> mongoTemplate.indexOps(entityClass).ensureIndex(index));
+    }
+}
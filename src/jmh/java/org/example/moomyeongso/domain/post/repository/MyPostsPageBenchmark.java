@@ -0,0 +1,133 @@
+package org.example.moomyeongso.domain.post.repository;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.example.moomyeongso.domain.post.entity.Post;
+import org.example.moomyeongso.domain.post.entity.PostStatus;
+import org.example.moomyeongso.domain.post.entity.PostType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 글이 많은 사용자의 "내가 쓴 글" 조회 비용 비교.
+ * 커서 페이지(cursorPage)는 사용자 글 수와 무관하게 일정해야 하고,
+ * 전체 조회(unboundedList)는 글 수에 비례해 지연/할당량이 늘어난다. 할당량은 gc 프로파일러의 gc.alloc.rate.norm으로 본다.
+ *
+ * 실제 Mongo가 필요하므로 -Pjmh.mongo.uri 로 벤치마크 전용 DB를 지정해야 한다. 해당 DB의 posts 컬렉션은 매번 비워진다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MyPostsPageBenchmark {
+
+    private static final String USER_ID = "bench-user";
+    private static final int PAGE_SIZE = 20;
+    private static final int INSERT_BATCH_SIZE = 1_000;
+
+    @Param({"100", "1000", "10000", "50000"})
+    public int postCount;
+
+    private MongoClient mongoClient;
+    private MongoTemplate mongoTemplate;
+    private PostPreviewFinder postPreviewFinder;
+    private String middleCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String uri = System.getProperty("jmh.mongo.uri");
+        if (uri == null || uri.isBlank()) {
+            throw new IllegalStateException("jmh.mongo.uri is required, e.g. -Pjmh.mongo.uri=mongodb://localhost:27017/moomyeongso-bench");
+        }
+
+        mongoClient = MongoClients.create(uri);
+        String database = new ConnectionString(uri).getDatabase();
+        mongoTemplate = new MongoTemplate(mongoClient, database == null ? "moomyeongso-bench" : database);
+        postPreviewFinder = new PostPreviewFinder(mongoTemplate);
+
+        mongoTemplate.dropCollection(Post.class);
+        new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext())
+                .resolveIndexFor(Post.class)
+                .forEach(index -> mongoTemplate.indexOps(Post.class).ensureIndex(index));
+        seed();
+
+        List<Post> firstHalf = postPreviewFinder.findPreviewPageByUser(
+                USER_ID, PostStatus.ACTIVE, null, null, Math.max(1, postCount / 2));
+        middleCursor = firstHalf.get(firstHalf.size() - 1).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        mongoTemplate.dropCollection(Post.class);
+        mongoClient.close();
+    }
+
+    @Benchmark
+    public List<Post> cursorFirstPage() {
+        return postPreviewFinder.findPreviewPageByUser(USER_ID, PostStatus.ACTIVE, null, null, PAGE_SIZE + 1);
+    }
+
+    @Benchmark
+    public List<Post> cursorMiddlePage() {
+        return postPreviewFinder.findPreviewPageByUser(USER_ID, PostStatus.ACTIVE, null, middleCursor, PAGE_SIZE + 1);
+    }
+
+    @Benchmark
+    public List<Post> cursorTypedPage() {
+        return postPreviewFinder.findPreviewPageByUser(USER_ID, PostStatus.ACTIVE, PostType.TEXT, null, PAGE_SIZE + 1);
+    }
+
+    // 커서 도입 전 findAllByUserIdAndStatusOrderByCreatedAtDesc와 같은 쿼리
+    @Benchmark
+    public List<Post> unboundedList() {
+        Query query = Query.query(Criteria.where("userId").is(USER_ID).and("status").is(PostStatus.ACTIVE))
+                .with(Sort.by(Sort.Direction.DESC, "createdAt"));
+        return mongoTemplate.find(query, Post.class);
+    }
+
+    private void seed() {
+        List<Post> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        Instant createdAtBase = Instant.now();
+        for (int i = 0; i < postCount; i++) {
+            batch.add(Post.builder()
+                    .userId(USER_ID)
+                    .type(i % 4 == 0 ? PostType.IMAGE : PostType.TEXT)
+                    .content("benchmark post " + i + " ".repeat(200))
+                    .contentPreview("benchmark post " + i)
+                    .contentLength(215)
+                    .createdAt(createdAtBase.plusMillis(i))
+                    .build());
+            if (batch.size() == INSERT_BATCH_SIZE) {
+                mongoTemplate.insertAll(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            mongoTemplate.insertAll(batch);
+        }
+    }
+}
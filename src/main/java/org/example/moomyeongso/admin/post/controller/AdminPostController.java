@@ -1,18 +1,21 @@
 package org.example.moomyeongso.admin.post.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.moomyeongso.admin.post.dto.request.AdminPostRequestDto;
+import org.example.moomyeongso.admin.post.dto.response.AdminPostCursorListResponse;
 import org.example.moomyeongso.admin.post.dto.response.AdminPostResponseDto;
 import org.example.moomyeongso.admin.post.service.AdminPostService;
 import org.example.moomyeongso.domain.post.entity.PostType;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
 @RestController
 @RequestMapping("/admin")
@@ -21,14 +24,36 @@ import java.util.List;
 @PreAuthorize("hasRole('ADMIN')")
 public class AdminPostController {
 
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+    private static final long EXPORT_TIMEOUT_MILLIS = 10 * 60 * 1000L;
+
     private final AdminPostService adminPostService;
 
-    @Operation(summary = "게시글 목록 조회", description = "관리자가 게시글을 조회합니다. type 파라미터로 TEXT/IMAGE를 구분할 수 있습니다.")
+    @Operation(summary = "게시글 목록 조회", description = "관리자가 게시글을 최신순으로 조회합니다. type 파라미터로 TEXT/IMAGE를 구분할 수 있고, cursor에는 마지막으로 로드한 postId를 전달합니다.")
     @GetMapping("/posts")
-    public ResponseEntity<List<AdminPostResponseDto>> getPosts(
-            @RequestParam(required = false) PostType type
+    public ResponseEntity<AdminPostCursorListResponse> getPosts(
+            @RequestParam(required = false) PostType type,
+            @Parameter(description = "마지막으로 로드한 게시물의 postId")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "가져올 글 수")
+            @RequestParam(defaultValue = "50") int limit
+    ) {
+        return ResponseEntity.ok(adminPostService.getPosts(type, cursor, limit));
+    }
+
+    @Operation(summary = "게시글 내보내기", description = "ACTIVE 게시글 전체를 NDJSON(한 줄에 게시글 하나)으로 스트리밍합니다.")
+    @GetMapping(value = "/posts/export", produces = NDJSON_VALUE)
+    public WebAsyncTask<Void> exportPosts(
+            @RequestParam(required = false) PostType type,
+            HttpServletResponse response
     ) {
-        return ResponseEntity.ok(adminPostService.getPosts(type));
+        response.setContentType(NDJSON_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"posts.ndjson\"");
+        // 전체 내보내기는 기본 비동기 타임아웃(30초)보다 오래 걸리므로 이 응답에만 긴 타임아웃을 준다
+        return new WebAsyncTask<>(EXPORT_TIMEOUT_MILLIS, () -> {
+            adminPostService.exportPosts(type, response.getOutputStream());
+            return null;
+        });
     }
     @Operation(summary = "게시글 상세 조회", description = "관리자가 특정 게시글을 조회합니다.")
     @GetMapping("/posts/{postId}")
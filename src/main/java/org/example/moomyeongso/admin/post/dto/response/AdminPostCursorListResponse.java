@@ -0,0 +1,12 @@
+package org.example.moomyeongso.admin.post.dto.response;
+
+import java.util.List;
+
+public record AdminPostCursorListResponse(
+        String nextCursor,
+        List<AdminPostResponseDto> posts
+) {
+    public static AdminPostCursorListResponse of(List<AdminPostResponseDto> posts, String nextCursor) {
+        return new AdminPostCursorListResponse(nextCursor, posts);
+    }
+}
@@ -1,37 +1,82 @@
 package org.example.moomyeongso.admin.post.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import lombok.RequiredArgsConstructor;
 import org.example.moomyeongso.admin.post.dto.request.AdminPostRequestDto;
+import org.example.moomyeongso.admin.post.dto.response.AdminPostCursorListResponse;
 import org.example.moomyeongso.admin.post.dto.response.AdminPostResponseDto;
 import org.example.moomyeongso.common.exception.CustomException;
 import org.example.moomyeongso.common.exception.ErrorCode;
 import org.example.moomyeongso.domain.post.entity.Post;
 import org.example.moomyeongso.domain.post.entity.PostStatus;
 import org.example.moomyeongso.domain.post.entity.PostType;
+import org.example.moomyeongso.domain.post.event.PostDeletedEvent;
+import org.example.moomyeongso.domain.post.repository.AdminPostFinder;
 import org.example.moomyeongso.domain.post.repository.PostRepository;
 import org.example.moomyeongso.domain.postimage.service.PostImageService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class AdminPostService {
 
+    private static final int MAX_ADMIN_POST_LIMIT = 200;
+    private static final int EXPORT_FLUSH_INTERVAL = 200;
+
     private final PostRepository postRepository;
+    private final AdminPostFinder adminPostFinder;
+    private final ObjectMapper objectMapper;
     private final PostImageService postImageService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
-    public List<AdminPostResponseDto> getPosts(PostType type) {
-        List<Post> posts =
-                (type == null)
-                        ? postRepository.findAllByStatusOrderByCreatedAtDesc(PostStatus.ACTIVE)
-                        : postRepository.findAllByTypeAndStatusOrderByCreatedAtDesc(type, PostStatus.ACTIVE);
+    public AdminPostCursorListResponse getPosts(PostType type, String cursor, int limit) {
+        if (limit <= 0 || limit > MAX_ADMIN_POST_LIMIT) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
 
-        return posts.stream()
+        String normalizedCursor = (cursor == null || cursor.isBlank()) ? null : cursor;
+        List<Post> fetched = adminPostFinder.findPage(PostStatus.ACTIVE, type, normalizedCursor, limit + 1);
+        boolean hasNext = fetched.size() > limit;
+        List<AdminPostResponseDto> posts = (hasNext ? fetched.subList(0, limit) : fetched).stream()
                 .map(AdminPostResponseDto::from)
                 .toList();
+        return AdminPostCursorListResponse.of(posts, hasNext ? posts.get(posts.size() - 1).postId() : null);
+    }
+
+    /**
+     * ACTIVE 게시글 전체를 NDJSON(한 줄에 게시글 하나)으로 내보낸다.
+     * Mongo 커서에서 읽는 즉시 응답 스트림에 쓰므로 게시글 수와 관계없이 메모리 사용량이 일정하다.
+     * 게시글마다 flush하지 않고 EXPORT_FLUSH_INTERVAL건마다 내보낸다.
+     */
+    public void exportPosts(PostType type, OutputStream outputStream) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(AdminPostResponseDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (Stream<Post> posts = adminPostFinder.stream(PostStatus.ACTIVE, type);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+            generator.setRootValueSeparator(null);
+
+            int written = 0;
+            for (Post post : (Iterable<Post>) posts::iterator) {
+                writer.writeValue(generator, AdminPostResponseDto.from(post));
+                generator.writeRaw('\n');
+                if (++written % EXPORT_FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+            generator.flush();
+        }
     }
 
     @Transactional(readOnly = true)
@@ -56,5 +101,6 @@ public class AdminPostService {
         post.deleteByAdmin();
         postRepository.save(post);
         postImageService.markPostImagesDeleted(post.getId());
+        eventPublisher.publishEvent(new PostDeletedEvent(post.getId()));
     }
 }
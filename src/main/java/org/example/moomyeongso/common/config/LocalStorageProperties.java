@@ -0,0 +1,18 @@
+package org.example.moomyeongso.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * app.storage.type=local일 때 사용하는 파일시스템 저장소 설정. 개발/테스트 환경과 부하 테스트에서 S3 대신 쓴다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.storage.local")
+public class LocalStorageProperties {
+
+    private String rootDir = "./data/images";
+    // 저장된 URL의 앞부분. LocalImageController가 서빙하는 /images 경로를 가리켜야 한다
+    private String publicBaseUrl = "http://localhost:8080/api/images";
+}
@@ -1,10 +1,13 @@
 package org.example.moomyeongso.common.config;
 
+import org.example.moomyeongso.domain.postimage.entity.PostImageBlob;
 import org.example.moomyeongso.domain.user.entity.User;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
+import org.springframework.data.mongodb.core.query.Criteria;
 
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
@@ -23,5 +26,11 @@ public class MongoIndexConfig {
                 .ensureIndex(new Index()
                         .on("expiresAt", Sort.Direction.ASC)
                         .expire(0, TimeUnit.SECONDS));
+        // 정리되지 못한 blob만 색인해 정리 작업이 전체를 훑지 않게 한다
+        mongoTemplate.indexOps(PostImageBlob.class)
+                .ensureIndex(new Index()
+                        .on("refCount", Sort.Direction.ASC)
+                        .named("unreferenced_idx")
+                        .partial(PartialIndexFilter.of(Criteria.where("refCount").lte(0))));
     }
 }
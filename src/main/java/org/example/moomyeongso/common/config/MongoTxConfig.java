@@ -4,6 +4,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.mongodb.MongoDatabaseFactory;
 import org.springframework.data.mongodb.MongoTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Configuration
 public class MongoTxConfig {
@@ -12,4 +13,12 @@ public class MongoTxConfig {
     public MongoTransactionManager mongoTransactionManager(MongoDatabaseFactory factory) {
         return new MongoTransactionManager(factory);
     }
+
+    /**
+     * 트랜잭션 전에 오래 걸리는 작업(비밀번호 해싱 등)을 끝내야 하는 메서드가 트랜잭션 구간을 직접 정할 때 쓴다.
+     */
+    @Bean(name = "mongoTransactionTemplate")
+    public TransactionTemplate mongoTransactionTemplate(MongoTransactionManager mongoTransactionManager) {
+        return new TransactionTemplate(mongoTransactionManager);
+    }
 }
\ No newline at end of file
@@ -3,7 +3,7 @@ package org.example.moomyeongso.common.config;
 import lombok.RequiredArgsConstructor;
 import org.example.moomyeongso.domain.auth.jwt.JwtAuthenticationEntryPoint;
 import org.example.moomyeongso.domain.auth.jwt.JwtAuthenticationFilter;
-import org.example.moomyeongso.domain.auth.jwt.JwtSecurityProperties;
+import org.example.moomyeongso.domain.auth.jwt.JwtPathMatchers;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -15,10 +15,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
-
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 
 @Configuration
 @RequiredArgsConstructor
@@ -27,7 +24,7 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
-    private final JwtSecurityProperties jwtSecurityProperties;
+    private final JwtPathMatchers jwtPathMatchers;
 
     @Bean
     public PasswordEncoder passwordEncoder() {
@@ -36,19 +33,20 @@ public class SecurityConfig {
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
-        List<String> permitAllPaths = new ArrayList<>(safePaths(jwtSecurityProperties.getIgnorePaths()));
-        permitAllPaths.addAll(safePaths(jwtSecurityProperties.getOptionalAuthPaths()));
+        // JWT 필터와 같은 세그먼트 단위 접두사 규칙으로 판단하도록 컴파일된 매처를 그대로 사용
+        RequestMatcher permitAllPaths = request -> jwtPathMatchers.isPermitAll(request.getServletPath());
 
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .cors(Customizer.withDefaults())
                 .authorizeHttpRequests(auth -> {
                     auth.requestMatchers(HttpMethod.OPTIONS, "/**").permitAll();
-                    if (!permitAllPaths.isEmpty()) {
-                        auth.requestMatchers(permitAllPaths.toArray(new String[0])).permitAll();
-                    }
+                    // 로컬 저장소 모드의 공개 이미지 (S3 모드에서는 핸들러가 없어 404)
+                    auth.requestMatchers(HttpMethod.GET, "/images/**").permitAll();
+                    auth.requestMatchers(permitAllPaths).permitAll();
                     auth.requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-resources/**")
                             .hasRole("ADMIN");
+                    auth.requestMatchers("/actuator/**").hasRole("ADMIN");
                     auth.anyRequest().authenticated();
                 })
                 .exceptionHandling(customizer ->
@@ -59,8 +57,4 @@ public class SecurityConfig {
 
         return http.build();
     }
-
-    private List<String> safePaths(List<String> paths) {
-        return paths == null ? Collections.emptyList() : paths;
-    }
 }
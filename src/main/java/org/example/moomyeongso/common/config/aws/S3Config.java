@@ -1,22 +1,74 @@
 package org.example.moomyeongso.common.config.aws;
 
 import org.example.moomyeongso.domain.postimage.service.PostImageProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.time.Duration;
 
 @Configuration
 @EnableConfigurationProperties({S3StorageProperties.class, PostImageProperties.class})
 public class S3Config {
 
     @Bean
+    @ConditionalOnProperty(name = "app.storage.type", havingValue = "s3", matchIfMissing = true)
     public S3Client s3Client(S3StorageProperties properties) {
+        S3StorageProperties.Client client = properties.getClient();
         return S3Client.builder()
                 .region(Region.of(properties.getRegion()))
                 .credentialsProvider(DefaultCredentialsProvider.builder().build())
+                .httpClientBuilder(ApacheHttpClient.builder()
+                        .maxConnections(client.getMaxConcurrency())
+                        .connectionAcquisitionTimeout(Duration.ofMillis(client.getConnectionAcquisitionTimeoutMs()))
+                        .connectionTimeout(Duration.ofMillis(client.getConnectionTimeoutMs()))
+                        .socketTimeout(Duration.ofMillis(client.getSocketTimeoutMs())))
+                .build();
+    }
+
+    /**
+     * 클라이언트 직접 업로드용 URL 서명. 네트워크 호출 없이 로컬에서 서명만 한다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.storage.type", havingValue = "s3", matchIfMissing = true)
+    public S3Presigner s3Presigner(S3StorageProperties properties) {
+        return S3Presigner.builder()
+                .region(Region.of(properties.getRegion()))
+                .credentialsProvider(DefaultCredentialsProvider.builder().build())
+                .build();
+    }
+
+    /**
+     * 업로드용 비동기 클라이언트. Netty 이벤트 루프가 전송을 처리하므로 진행 중인 PUT마다 스레드를 잡지 않는다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.storage.type", havingValue = "s3", matchIfMissing = true)
+    public S3AsyncClient s3AsyncClient(S3StorageProperties properties) {
+        S3StorageProperties.Client client = properties.getClient();
+        return S3AsyncClient.builder()
+                .region(Region.of(properties.getRegion()))
+                .credentialsProvider(DefaultCredentialsProvider.builder().build())
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder()
+                        .maxConcurrency(client.getMaxConcurrency())
+                        .maxPendingConnectionAcquires(client.getMaxPendingConnectionAcquires())
+                        .connectionAcquisitionTimeout(Duration.ofMillis(client.getConnectionAcquisitionTimeoutMs()))
+                        .connectionTimeout(Duration.ofMillis(client.getConnectionTimeoutMs()))
+                        .readTimeout(Duration.ofMillis(client.getSocketTimeoutMs()))
+                        .writeTimeout(Duration.ofMillis(client.getSocketTimeoutMs())))
+                .multipartEnabled(true)
+                .multipartConfiguration(MultipartConfiguration.builder()
+                        .thresholdInBytes(client.getMultipartThresholdBytes())
+                        .minimumPartSizeInBytes(client.getMultipartPartSizeBytes())
+                        .build())
                 .build();
     }
 }
@@ -11,6 +11,7 @@ public class S3StorageProperties {
 
     private String region;
     private S3 s3 = new S3();
+    private Client client = new Client();
 
     @Getter
     @Setter
@@ -20,5 +21,22 @@ public class S3StorageProperties {
         private String originalPrefix = "posts/original";
         private String thumbnailPrefix = "posts/thumbnails";
     }
+
+    /**
+     * S3 HTTP 클라이언트 설정. 동기/비동기 클라이언트가 같은 값을 쓴다.
+     * 연결을 모두 쓰고 있으면 최대 maxPendingConnectionAcquires개까지 대기시키고, 넘치면 즉시 실패시켜 요청이 끝없이 쌓이지 않게 한다.
+     */
+    @Getter
+    @Setter
+    public static class Client {
+        private int maxConcurrency = 64;
+        private int maxPendingConnectionAcquires = 1000;
+        private long connectionAcquisitionTimeoutMs = 10_000;
+        private long connectionTimeoutMs = 2_000;
+        private long socketTimeoutMs = 30_000;
+        // 이 크기 이상인 업로드는 multipart로 나눠 병렬 전송
+        private long multipartThresholdBytes = 8 * 1024 * 1024;
+        private long multipartPartSizeBytes = 5 * 1024 * 1024;
+    }
 }
 
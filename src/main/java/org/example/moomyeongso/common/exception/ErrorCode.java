@@ -34,7 +34,11 @@ public enum ErrorCode {
     INVALID_IMAGE(HttpStatus.BAD_REQUEST, 1027, "올바르지 않은 이미지 파일입니다."),
     IMAGE_UPLOAD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, 1028, "이미지 업로드에 실패했습니다."),
     POST_IMAGE_NOT_FOUND(HttpStatus.NOT_FOUND, 1029, "첨부 이미지를 찾을 수 없습니다."),
-    IMAGE_ALREADY_ATTACHED(HttpStatus.CONFLICT, 1030, "이미 다른 글에 첨부된 이미지입니다.");
+    IMAGE_ALREADY_ATTACHED(HttpStatus.CONFLICT, 1030, "이미 다른 글에 첨부된 이미지입니다."),
+    DIRECT_UPLOAD_NOT_SUPPORTED(HttpStatus.BAD_REQUEST, 1031, "현재 저장소에서는 직접 업로드를 지원하지 않습니다."),
+    IMAGE_NOT_UPLOADED(HttpStatus.BAD_REQUEST, 1032, "이미지 업로드가 완료되지 않았습니다."),
+    AUTH_SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, 1033, "로그인 요청이 많아 잠시 후 다시 시도해주세요."),
+    IMAGE_UPLOAD_BUSY(HttpStatus.SERVICE_UNAVAILABLE, 1034, "이미지 업로드 요청이 많아 잠시 후 다시 시도해주세요.");
 
     private final HttpStatus status;
     private final int code;
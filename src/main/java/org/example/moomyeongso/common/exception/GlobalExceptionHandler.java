@@ -2,6 +2,7 @@ package org.example.moomyeongso.common.exception;
 
 import lombok.extern.slf4j.Slf4j;
 import org.example.moomyeongso.common.response.ApiResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -35,6 +36,23 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(ServerBusyException.class)
+    public ResponseEntity<ApiResponse<Object>> handleServerBusy(ServerBusyException ex) {
+        ErrorCode errorCode = ex.getErrorCode();
+        log.warn("{}: {} - retryAfterSeconds={}",
+                ex.getClass().getSimpleName(),
+                errorCode.getCode(),
+                ex.getRetryAfterSeconds());
+        ResponseEntity<ApiResponse<Object>> response = ApiResponse.error(
+                errorCode.getStatus(),
+                errorCode.getCode(),
+                errorCode.getMessage()
+        );
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response.getBody());
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<Object>> handleException(Exception ex) {
         log.error("Unhandled exception: {} - {}", ex.getClass().getSimpleName(), ex.getMessage());
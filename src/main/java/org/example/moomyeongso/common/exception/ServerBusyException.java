@@ -0,0 +1,17 @@
+package org.example.moomyeongso.common.exception;
+
+import lombok.Getter;
+
+/**
+ * 처리 용량이 가득 차 요청을 바로 거절할 때 사용한다. 응답에 Retry-After 헤더가 붙는다.
+ */
+@Getter
+public class ServerBusyException extends CustomException {
+
+    private final long retryAfterSeconds;
+
+    public ServerBusyException(ErrorCode errorCode, long retryAfterSeconds) {
+        super(errorCode);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -4,17 +4,21 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+/**
+ * 비밀번호 해싱/검증. BCrypt는 요청 스레드가 아닌 PasswordHashingExecutor의 제한된 풀에서 실행한다.
+ */
 @Component
 @RequiredArgsConstructor
 public class EncoderUtils {
 
     private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
 
     public String encode(String rawPassword) {
-        return passwordEncoder.encode(rawPassword);
+        return passwordHashingExecutor.execute(() -> passwordEncoder.encode(rawPassword));
     }
 
     public boolean matches(String rawPassword, String encodedPassword) {
-        return passwordEncoder.matches(rawPassword, encodedPassword);
+        return passwordHashingExecutor.execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
     }
 }
@@ -0,0 +1,102 @@
+package org.example.moomyeongso.common.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.moomyeongso.common.exception.CustomException;
+import org.example.moomyeongso.common.exception.ErrorCode;
+import org.example.moomyeongso.common.exception.ServerBusyException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * BCrypt 해싱/검증 전용 풀. 로그인이 몰려도 동시에 해싱하는 스레드를 묶어 다른 요청의 CPU를 지키고,
+ * 대기열까지 차면 기다리지 않고 503(Retry-After)으로 거절한다.
+ * 스레드 수를 지정하지 않으면 코어 수의 절반(최소 1)을 쓴다. 해싱이 코어를 모두 차지하면 같은 인스턴스의
+ * 다른 API 요청이 밀리므로 나머지 절반은 일반 요청 몫으로 남겨 둔다.
+ * 요청 스레드는 결과를 기다리지만 CPU를 쓰지 않는다.
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor {
+
+    private static final String METRIC_PREFIX = "auth.password.hashing";
+
+    private final ThreadPoolExecutor executor;
+    private final long retryAfterSeconds;
+    private final Counter rejected;
+
+    public PasswordHashingExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${app.auth.password-hashing.threads:0}") int threads,
+            @Value("${app.auth.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${app.auth.password-hashing.retry-after-seconds:2}") long retryAfterSeconds
+    ) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                // 0이면 대기 없이 놀고 있는 스레드가 없을 때 바로 거절한다
+                queueCapacity > 0 ? new ArrayBlockingQueue<>(queueCapacity) : new SynchronousQueue<>(),
+                new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("해싱 중인 스레드 수")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".queued", executor, pool -> pool.getQueue().size())
+                .description("해싱 대기 중인 요청 수")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".pool.size", executor, ThreadPoolExecutor::getMaximumPoolSize)
+                .description("해싱 최대 동시 실행 수")
+                .register(meterRegistry);
+        this.rejected = Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("대기열이 가득 차 거절된 해싱 요청 수")
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(Supplier<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task::get);
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            throw new ServerBusyException(ErrorCode.AUTH_SERVER_BUSY, retryAfterSeconds);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            log.error("Password hashing failed", ex.getCause());
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -20,7 +20,12 @@ public class RefreshToken {
     @Indexed(unique = true)
     private String userId;
 
+    // BCrypt로 저장하던 예전 토큰. 재발급 시 tokenDigest로 옮겨지며 새 토큰은 비워 둔다
     private String token;
 
+    // RefreshTokenHasher의 HMAC-SHA256 다이제스트
+    @Indexed(unique = true, sparse = true)
+    private String tokenDigest;
+
     private LocalDateTime expiryDate;
 }
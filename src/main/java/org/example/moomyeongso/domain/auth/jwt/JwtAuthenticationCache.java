@@ -0,0 +1,150 @@
+package org.example.moomyeongso.domain.auth.jwt;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 검증을 마친 액세스 토큰의 Authentication 캐시.
+ * 같은 토큰이 만료 전까지 반복해서 들어오므로, 서명 세그먼트로 찾아 전체 토큰이 같으면 파싱과 HMAC 검증을 건너뛴다.
+ * 항목은 토큰의 exp에 만료되고, 만료된 항목은 스케줄러가 주기적으로 비운다.
+ *
+ * 조회는 잠금 없이 하고, 변경은 만료 순서와 사용자별 색인을 함께 고쳐야 하므로 한 번에 하나씩 한다.
+ * 가득 찬 상태에서 새 토큰이 들어오면 가장 먼저 만료될 항목을 내보내 새 세션은 계속 캐시된다.
+ * 만료 정리와 사용자별 무효화는 색인으로 해당 항목만 찾으므로 전체를 훑지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class JwtAuthenticationCache {
+
+    private static final Comparator<Entry> EXPIRY_ORDER =
+            Comparator.comparingLong(Entry::expiresAtMillis).thenComparing(Entry::signature);
+
+    private final JwtSecurityProperties jwtSecurityProperties;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    // 아래 색인은 잠금 안에서만 읽고 쓴다
+    private final NavigableSet<Entry> byExpiry = new TreeSet<>(EXPIRY_ORDER);
+    private final Map<String, Set<String>> signaturesBySubject = new HashMap<>();
+
+    public Authentication get(String token) {
+        String signature = signatureOf(token);
+        if (signature == null) {
+            return null;
+        }
+        Entry entry = entries.get(signature);
+        if (entry == null || !entry.token().equals(token)) {
+            return null;
+        }
+        if (System.currentTimeMillis() >= entry.expiresAtMillis()) {
+            synchronized (this) {
+                if (entries.remove(signature, entry)) {
+                    unindex(entry);
+                }
+            }
+            return null;
+        }
+        return entry.authentication();
+    }
+
+    public void put(String token, String subject, Date expiration, Authentication authentication) {
+        String signature = signatureOf(token);
+        if (signature == null || expiration == null) {
+            return;
+        }
+        int maxSize = jwtSecurityProperties.getAuthenticationCacheSize();
+        if (maxSize <= 0) {
+            return;
+        }
+
+        Entry entry = new Entry(signature, token, subject, expiration.getTime(), authentication);
+        synchronized (this) {
+            Entry previous = entries.put(signature, entry);
+            if (previous != null) {
+                unindex(previous);
+            }
+            index(entry);
+            while (entries.size() > maxSize) {
+                Entry soonest = byExpiry.pollFirst();
+                entries.remove(soonest.signature(), soonest);
+                unindexSubject(soonest);
+            }
+        }
+    }
+
+    /**
+     * 로그아웃 등으로 사용자의 세션을 정리할 때 캐시된 인증을 버린다. 이후 요청은 토큰을 다시 검증한다.
+     */
+    public synchronized void invalidateSubject(String subject) {
+        if (subject == null) {
+            return;
+        }
+        Set<String> signatures = signaturesBySubject.remove(subject);
+        if (signatures == null) {
+            return;
+        }
+        for (String signature : signatures) {
+            Entry entry = entries.remove(signature);
+            if (entry != null) {
+                byExpiry.remove(entry);
+            }
+        }
+    }
+
+    public synchronized void evictExpired() {
+        long now = System.currentTimeMillis();
+        while (!byExpiry.isEmpty() && now >= byExpiry.first().expiresAtMillis()) {
+            Entry expired = byExpiry.pollFirst();
+            entries.remove(expired.signature(), expired);
+            unindexSubject(expired);
+        }
+    }
+
+    private void index(Entry entry) {
+        byExpiry.add(entry);
+        if (entry.subject() != null) {
+            signaturesBySubject.computeIfAbsent(entry.subject(), key -> new HashSet<>()).add(entry.signature());
+        }
+    }
+
+    private void unindex(Entry entry) {
+        byExpiry.remove(entry);
+        unindexSubject(entry);
+    }
+
+    private void unindexSubject(Entry entry) {
+        if (entry.subject() == null) {
+            return;
+        }
+        Set<String> signatures = signaturesBySubject.get(entry.subject());
+        if (signatures != null && signatures.remove(entry.signature()) && signatures.isEmpty()) {
+            signaturesBySubject.remove(entry.subject());
+        }
+    }
+
+    private String signatureOf(String token) {
+        int lastDot = token.lastIndexOf('.');
+        if (lastDot < 0 || lastDot == token.length() - 1) {
+            return null;
+        }
+        return token.substring(lastDot + 1);
+    }
+
+    private record Entry(
+            String signature,
+            String token,
+            String subject,
+            long expiresAtMillis,
+            Authentication authentication
+    ) {
+    }
+}
@@ -14,6 +14,7 @@ import org.example.moomyeongso.common.exception.CustomAuthenticationException;
 import org.example.moomyeongso.common.response.ApiResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -28,7 +29,8 @@ import java.util.List;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtTokenProvider jwtTokenProvider;
     private final ObjectMapper objectMapper;
-    private final JwtSecurityProperties jwtSecurityProperties;
+    private final JwtPathMatchers jwtPathMatchers;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request,
@@ -41,21 +43,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         if (token != null) {
             try {
-                Claims claims = jwtTokenProvider.validateToken(token);
-                String role = claims.get("role", String.class);
-                String subject = claims.getSubject();
-
-                log.debug("JwtAuthenticationFilter - Token validated for subject={}", subject);
-
-                CustomPrincipal principal = new CustomPrincipal(subject, claims.get("role", String.class));
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(principal, null, List.of(
-                                new SimpleGrantedAuthority("ROLE_" + role)
-                        ));
+                Authentication authentication = jwtAuthenticationCache.get(token);
+                if (authentication == null) {
+                    authentication = authenticate(token);
+                }
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             } catch (CustomAuthenticationException ex) {
-                if (isOptionalAuthPath(path)) {
+                if (jwtPathMatchers.isOptionalAuth(path)) {
                     log.info("JwtAuthenticationFilter - Invalid token ignored for optional auth path={}",
                             path);
                     SecurityContextHolder.clearContext();
@@ -79,6 +74,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private Authentication authenticate(String token) {
+        Claims claims = jwtTokenProvider.validateToken(token);
+        String role = claims.get("role", String.class);
+        String subject = claims.getSubject();
+
+        log.debug("JwtAuthenticationFilter - Token validated for subject={}", subject);
+
+        CustomPrincipal principal = new CustomPrincipal(subject, role);
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(principal, null, List.of(
+                        new SimpleGrantedAuthority("ROLE_" + role)
+                ));
+        jwtAuthenticationCache.put(token, subject, claims.getExpiration(), authentication);
+        return authentication;
+    }
+
     private String resolveToken(HttpServletRequest request) {
         String bearer = request.getHeader("Authorization");
         if (bearer != null && bearer.startsWith("Bearer ")) {
@@ -89,18 +100,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
-        String path = request.getServletPath();
-        return matchesPath(jwtSecurityProperties.getIgnorePaths(), path);
-    }
-
-    private boolean isOptionalAuthPath(String path) {
-        return matchesPath(jwtSecurityProperties.getOptionalAuthPaths(), path);
-    }
-
-    private boolean matchesPath(List<String> configuredPaths, String path) {
-        if (configuredPaths == null || configuredPaths.isEmpty()) {
-            return false;
-        }
-        return configuredPaths.stream().anyMatch(path::startsWith);
+        return jwtPathMatchers.isIgnored(request.getServletPath());
     }
 }
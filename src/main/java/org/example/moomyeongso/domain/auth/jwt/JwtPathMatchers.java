@@ -0,0 +1,45 @@
+package org.example.moomyeongso.domain.auth.jwt;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JwtSecurityProperties의 경로 목록을 한 번만 컴파일해 JWT 필터와 SecurityConfig가 같은 규칙으로 판단하게 한다.
+ */
+@Component
+public class JwtPathMatchers {
+
+    private final PathPrefixMatcher ignorePaths;
+    private final PathPrefixMatcher optionalAuthPaths;
+    private final PathPrefixMatcher permitAllPaths;
+
+    public JwtPathMatchers(JwtSecurityProperties jwtSecurityProperties) {
+        List<String> ignored = safePaths(jwtSecurityProperties.getIgnorePaths());
+        List<String> optionalAuth = safePaths(jwtSecurityProperties.getOptionalAuthPaths());
+        List<String> permitAll = new ArrayList<>(ignored);
+        permitAll.addAll(optionalAuth);
+
+        this.ignorePaths = PathPrefixMatcher.of(ignored);
+        this.optionalAuthPaths = PathPrefixMatcher.of(optionalAuth);
+        this.permitAllPaths = PathPrefixMatcher.of(permitAll);
+    }
+
+    public boolean isIgnored(String path) {
+        return ignorePaths.matches(path);
+    }
+
+    public boolean isOptionalAuth(String path) {
+        return optionalAuthPaths.matches(path);
+    }
+
+    /** 토큰 없이도 접근할 수 있는 경로 (무시 경로 + 선택 인증 경로) */
+    public boolean isPermitAll(String path) {
+        return permitAllPaths.matches(path);
+    }
+
+    private List<String> safePaths(List<String> paths) {
+        return paths == null ? List.of() : paths;
+    }
+}
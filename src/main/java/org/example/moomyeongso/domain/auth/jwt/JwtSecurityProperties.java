@@ -14,4 +14,8 @@ import java.util.List;
 public class JwtSecurityProperties {
     private List<String> ignorePaths;
     private List<String> optionalAuthPaths;
+    // 검증한 액세스 토큰을 캐시할 최대 개수
+    private int authenticationCacheSize = 10_000;
+    // 만료된 캐시 항목을 비우는 주기
+    private long authenticationCacheEvictIntervalMs = 60_000;
 }
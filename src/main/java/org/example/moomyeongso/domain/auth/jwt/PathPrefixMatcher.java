@@ -0,0 +1,104 @@
+package org.example.moomyeongso.domain.auth.jwt;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 설정된 경로 접두사를 시작 시점에 문자 트라이로 컴파일한 매처.
+ * 요청 경로를 한 글자씩 따라가므로 경로 길이에 비례해 끝나고 요청마다 할당이 없다.
+ * 접두사는 경로 세그먼트 단위로만 일치한다. {@code /auth/login}은 {@code /auth/login}, {@code /auth/login/...}과 일치하지만
+ * {@code /auth/login2}와는 일치하지 않는다. 이 매처가 SecurityConfig의 permitAll 판단에도 쓰이므로 접근 허용 범위가 넓어지지 않게 한다.
+ */
+public final class PathPrefixMatcher {
+
+    private static final PathPrefixMatcher EMPTY = new PathPrefixMatcher(null);
+
+    private final Node root;
+
+    private PathPrefixMatcher(Node root) {
+        this.root = root;
+    }
+
+    public static PathPrefixMatcher of(Collection<String> prefixes) {
+        if (prefixes == null || prefixes.isEmpty()) {
+            return EMPTY;
+        }
+        MutableNode root = new MutableNode();
+        for (String prefix : prefixes) {
+            if (prefix == null) {
+                continue;
+            }
+            MutableNode node = root;
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.children.computeIfAbsent(prefix.charAt(i), key -> new MutableNode());
+            }
+            node.terminal = true;
+        }
+        return new PathPrefixMatcher(root.freeze());
+    }
+
+    public boolean matches(String path) {
+        Node node = root;
+        if (node == null || path == null) {
+            return false;
+        }
+        for (int i = 0; ; i++) {
+            if (node.terminal && isSegmentBoundary(path, i)) {
+                return true;
+            }
+            if (i == path.length()) {
+                return false;
+            }
+            node = node.child(path.charAt(i));
+            if (node == null) {
+                return false;
+            }
+        }
+    }
+
+    // 접두사가 경로 끝에서 끝나거나, 다음 글자가 '/'이거나, 접두사 자체가 '/'로 끝나야 세그먼트 경계다
+    private static boolean isSegmentBoundary(String path, int end) {
+        return end == path.length()
+                || path.charAt(end) == '/'
+                || (end > 0 && path.charAt(end - 1) == '/');
+    }
+
+    private static final class Node {
+
+        // 정렬된 자식 문자. 설정 경로는 분기가 적어 이진 탐색으로 충분하다
+        private final char[] labels;
+        private final Node[] children;
+        private final boolean terminal;
+
+        private Node(char[] labels, Node[] children, boolean terminal) {
+            this.labels = labels;
+            this.children = children;
+            this.terminal = terminal;
+        }
+
+        private Node child(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            return index < 0 ? null : children[index];
+        }
+    }
+
+    private static final class MutableNode {
+
+        private final Map<Character, MutableNode> children = new TreeMap<>();
+        private boolean terminal;
+
+        private Node freeze() {
+            char[] labels = new char[children.size()];
+            Node[] frozen = new Node[children.size()];
+            int index = 0;
+            for (Map.Entry<Character, MutableNode> child : children.entrySet()) {
+                labels[index] = child.getKey();
+                frozen[index] = child.getValue().freeze();
+                index++;
+            }
+            return new Node(labels, frozen, terminal);
+        }
+    }
+}
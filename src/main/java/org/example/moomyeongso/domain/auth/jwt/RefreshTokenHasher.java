@@ -0,0 +1,62 @@
+package org.example.moomyeongso.domain.auth.jwt;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+/**
+ * 리프레시 토큰 저장용 HMAC-SHA256 다이제스트.
+ * 토큰은 122비트 무작위 UUID라 사전 대입이 의미가 없으므로, 비밀번호용 BCrypt 대신 키가 있는 해시로 충분하다.
+ * 같은 토큰은 항상 같은 다이제스트가 되므로 다이제스트로 바로 조회할 수 있다.
+ */
+@Component
+public class RefreshTokenHasher {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec key;
+    // Mac은 스레드 안전하지 않아 스레드마다 하나씩 둔다
+    private final ThreadLocal<Mac> macs;
+
+    public RefreshTokenHasher(@Value("${refresh.digest-secret:${jwt.secret}}") String secret) {
+        byte[] secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (secretBytes.length < 32) {
+            throw new IllegalArgumentException("Refresh token digest secret is too short");
+        }
+        this.key = new SecretKeySpec(secretBytes, ALGORITHM);
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    public String digest(String rawToken) {
+        Mac mac = macs.get();
+        // JWT 서명과 같은 비밀을 쓰는 경우를 위해 용도를 입력에 포함해 분리한다
+        mac.update("refresh-token:".getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(mac.doFinal(rawToken.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public boolean matches(String rawToken, String digest) {
+        if (rawToken == null || digest == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(
+                digest(rawToken).getBytes(StandardCharsets.US_ASCII),
+                digest.getBytes(StandardCharsets.US_ASCII)
+        );
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
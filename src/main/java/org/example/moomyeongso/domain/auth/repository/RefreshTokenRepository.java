@@ -9,5 +9,7 @@ public interface RefreshTokenRepository extends MongoRepository<RefreshToken, St
 
     Optional<RefreshToken> findByUserId(String userId);
 
+    Optional<RefreshToken> findByTokenDigest(String tokenDigest);
+
     void deleteByUserId(String userId);
 }
@@ -0,0 +1,18 @@
+package org.example.moomyeongso.domain.auth.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import org.example.moomyeongso.domain.auth.jwt.JwtAuthenticationCache;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class JwtAuthenticationCacheEvictScheduler {
+
+    private final JwtAuthenticationCache jwtAuthenticationCache;
+
+    @Scheduled(fixedDelayString = "${security.jwt.authentication-cache-evict-interval-ms:60000}")
+    public void evictExpired() {
+        jwtAuthenticationCache.evictExpired();
+    }
+}
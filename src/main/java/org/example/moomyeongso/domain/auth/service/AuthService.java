@@ -10,7 +10,9 @@ import org.example.moomyeongso.domain.auth.dto.request.ReissueRequestDto;
 import org.example.moomyeongso.domain.auth.dto.request.SignupRequestDto;
 import org.example.moomyeongso.domain.auth.dto.response.LoginResponseDto;
 import org.example.moomyeongso.domain.auth.entity.RefreshToken;
+import org.example.moomyeongso.domain.auth.jwt.JwtAuthenticationCache;
 import org.example.moomyeongso.domain.auth.jwt.JwtTokenProvider;
+import org.example.moomyeongso.domain.auth.jwt.RefreshTokenHasher;
 import org.example.moomyeongso.domain.auth.repository.RefreshTokenRepository;
 import org.example.moomyeongso.domain.user.entity.Streak;
 import org.example.moomyeongso.domain.user.entity.User;
@@ -22,6 +24,7 @@ import org.example.moomyeongso.domain.visithistory.service.VisitHistoryService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Duration;
 import java.time.LocalDate;
@@ -41,12 +44,22 @@ public class AuthService {
     private final VisitHistoryService visitHistoryService;
     private final StreakService streakService;
     private final MigrationService migrationService;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
+    private final RefreshTokenHasher refreshTokenHasher;
+    private final TransactionTemplate mongoTransactionTemplate;
 
     @Value("${refresh.expiration}")
     private long refreshValidityInMs;
 
-    @Transactional("mongoTransactionManager")
+    /**
+     * 해싱은 풀 대기열에서 기다릴 수 있으므로 트랜잭션을 열기 전에 끝낸다.
+     */
     public LoginResponseDto signup(SignupRequestDto request, String subject) {
+        String passwordHash = encoderUtils.encode(request.password());
+        return mongoTransactionTemplate.execute(status -> completeSignup(request, passwordHash, subject));
+    }
+
+    private LoginResponseDto completeSignup(SignupRequestDto request, String passwordHash, String subject) {
 
         // 익명 사용자 → 회원 전환
         if (subject != null) {
@@ -68,7 +81,7 @@ public class AuthService {
             currentUser.updateToMember(
                     request.email(),
                     request.nickname(),
-                    encoderUtils.encode(request.password()),
+                    passwordHash,
                     request.visitMotive()
             );
 
@@ -94,7 +107,7 @@ public class AuthService {
         User user = User.builder()
                 .email(request.email())
                 .nickname(request.nickname())
-                .passwordHash(encoderUtils.encode(request.password()))
+                .passwordHash(passwordHash)
                 .visitMotive(request.visitMotive())
                 .userRole(UserRole.USER)
                 .build();
@@ -105,14 +118,23 @@ public class AuthService {
         return issueTokens(user);
     }
 
-    @Transactional("mongoTransactionManager")
+    /**
+     * 비밀번호 검증은 트랜잭션 밖에서 끝내고, 검증된 사용자로만 트랜잭션을 연다.
+     * 로그인이 몰려 해싱 풀에서 기다리는 동안 트랜잭션과 스냅샷을 붙잡고 있지 않게 한다.
+     */
     public LoginResponseDto login(LoginRequestDto request, String anonymousSubject) {
-        User user = userRepository.findByEmail(request.email())
+        User credentialOwner = userRepository.findByEmail(request.email())
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
-        if (!encoderUtils.matches(request.password(), user.getPasswordHash())) {
+        if (!encoderUtils.matches(request.password(), credentialOwner.getPasswordHash())) {
             throw new CustomException(ErrorCode.INVALID_PASSWORD);
         }
+        return mongoTransactionTemplate.execute(status -> completeLogin(credentialOwner.getId(), anonymousSubject));
+    }
+
+    private LoginResponseDto completeLogin(String userId, String anonymousSubject) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
         if (user.getStatus() != UserStatus.ACTIVE) {
             throw new CustomException(ErrorCode.USER_NOT_ACTIVE);
         }
@@ -132,15 +154,19 @@ public class AuthService {
         return issueTokens(user);
     }
 
-    @Transactional("mongoTransactionManager")
+    /**
+     * 가장 많이 호출되는 인증 API라 트랜잭션 없이 사용자와 리프레시 토큰을 한 번씩 insert만 한다.
+     * 새 사용자라 지울 기존 토큰이 없고, 토큰 저장이 실패해 사용자 문서만 남아도 expiresAt TTL로 정리된다.
+     */
     public LoginResponseDto loginAsAnonymous() {
-        User user = User.builder()
+        User user = userRepository.insert(User.builder()
                 .userRole(UserRole.ANONYMOUS)
                 .expiresAt(LocalDateTime.now().plusDays(7)) // 7일 TTL
-                .build();
+                .build());
 
-        userRepository.save(user);
-        return issueTokens(user);
+        IssuedTokens tokens = newTokens(user);
+        refreshTokenRepository.insert(tokens.refreshToken());
+        return tokens.toResponse(user);
     }
 
     @Transactional("mongoTransactionManager")
@@ -148,12 +174,7 @@ public class AuthService {
         Claims claims = jwtTokenProvider.getClaimsEvenIfExpired(request.accessToken());
         String userId = claims.getSubject();
 
-        RefreshToken saved = refreshTokenRepository.findByUserId(userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_TOKEN));
-
-        if (!encoderUtils.matches(request.refreshToken(), saved.getToken())) {
-            throw new CustomException(ErrorCode.INVALID_TOKEN);
-        }
+        RefreshToken saved = findRefreshToken(userId, request.refreshToken());
         if (saved.getExpiryDate().isBefore(LocalDateTime.now())) {
             throw new CustomException(ErrorCode.TOKEN_EXPIRED);
         }
@@ -167,6 +188,7 @@ public class AuthService {
     @Transactional("mongoTransactionManager")
     public void logout(String userId) {
         refreshTokenRepository.deleteByUserId(userId);
+        jwtAuthenticationCache.invalidateSubject(userId);
     }
 
     private void migrateAnonymousDataIfNeeded(String anonymousUserId, User memberUser) {
@@ -181,6 +203,7 @@ public class AuthService {
                         streakService.updateOnVisit(memberUser);
                     }
                     refreshTokenRepository.deleteByUserId(anonymousUser.getId());
+                    jwtAuthenticationCache.invalidateSubject(anonymousUser.getId());
                 });
     }
 
@@ -197,20 +220,57 @@ public class AuthService {
         return LocalDate.now(KST).toString().equals(streak.getLastSeenDate());
     }
 
+    /**
+     * 다이제스트로 먼저 찾고, 없으면 BCrypt로 저장된 예전 토큰인지 확인한다.
+     * 예전 토큰도 재발급하면서 다이제스트 저장으로 바뀐다.
+     */
+    private RefreshToken findRefreshToken(String userId, String rawRefreshToken) {
+        if (rawRefreshToken == null) {
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
+        RefreshToken byDigest = refreshTokenRepository.findByTokenDigest(refreshTokenHasher.digest(rawRefreshToken))
+                .orElse(null);
+        if (byDigest != null) {
+            if (!userId.equals(byDigest.getUserId())) {
+                throw new CustomException(ErrorCode.INVALID_TOKEN);
+            }
+            return byDigest;
+        }
+
+        RefreshToken legacy = refreshTokenRepository.findByUserId(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_TOKEN));
+        if (legacy.getToken() == null || !encoderUtils.matches(rawRefreshToken, legacy.getToken())) {
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
+        return legacy;
+    }
+
     private LoginResponseDto issueTokens(User user) {
+        IssuedTokens tokens = newTokens(user);
+
+        refreshTokenRepository.deleteByUserId(user.getId());
+        refreshTokenRepository.save(tokens.refreshToken());
+
+        return tokens.toResponse(user);
+    }
+
+    private IssuedTokens newTokens(User user) {
         String accessToken = jwtTokenProvider.createAccessToken(user.getId(), user.getUserRole().name());
         String rawRefreshToken = UUID.randomUUID().toString();
-        String encodedRefreshToken = encoderUtils.encode(rawRefreshToken);
 
         LocalDateTime expiryDate = LocalDateTime.now().plus(Duration.ofMillis(refreshValidityInMs));
-
-        refreshTokenRepository.deleteByUserId(user.getId());
-        refreshTokenRepository.save(RefreshToken.builder()
+        RefreshToken refreshToken = RefreshToken.builder()
                 .userId(user.getId())
-                .token(encodedRefreshToken)
+                .tokenDigest(refreshTokenHasher.digest(rawRefreshToken))
                 .expiryDate(expiryDate)
-                .build());
+                .build();
+        return new IssuedTokens(accessToken, rawRefreshToken, refreshToken);
+    }
 
-        return LoginResponseDto.of(user, accessToken, rawRefreshToken);
+    private record IssuedTokens(String accessToken, String rawRefreshToken, RefreshToken refreshToken) {
+
+        LoginResponseDto toResponse(User user) {
+            return LoginResponseDto.of(user, accessToken, rawRefreshToken);
+        }
     }
 }
@@ -5,10 +5,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.example.moomyeongso.common.exception.CustomException;
 import org.example.moomyeongso.common.exception.ErrorCode;
 import org.example.moomyeongso.domain.post.entity.Post;
+import org.example.moomyeongso.domain.post.event.PostOwnerMigratedEvent;
 import org.example.moomyeongso.domain.readhistory.entity.ReadHistory;
 import org.example.moomyeongso.domain.readhistory.repository.ReadHistoryRepository;
+import org.example.moomyeongso.domain.readhistory.service.ReadPostFilterCache;
 import org.example.moomyeongso.domain.user.entity.User;
 import org.example.moomyeongso.domain.user.entity.UserRole;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
@@ -27,6 +30,8 @@ public class MigrationService {
 
     private final MongoTemplate mongoTemplate;
     private final ReadHistoryRepository readHistoryRepository;
+    private final ReadPostFilterCache readPostFilterCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Optional<User> consumeAnonymousUserForMigration(String anonymousUserId) {
         if (anonymousUserId == null) {
@@ -70,6 +75,9 @@ public class MigrationService {
         Update update = new Update().set("userId", toUserId);
 
         long modified = mongoTemplate.updateMulti(query, update, Post.class).getModifiedCount();
+        if (modified > 0) {
+            eventPublisher.publishEvent(new PostOwnerMigratedEvent(fromUserId, toUserId));
+        }
         log.info("Post ownership migrated: fromUserId={}, toUserId={}, modified={}",
                 fromUserId, toUserId, modified);
     }
@@ -125,6 +133,7 @@ public class MigrationService {
             moved++;
         }
 
+        readPostFilterCache.invalidate(toUserId);
         log.info("Read history migrated: fromUserId={}, toUserId={}, moved={}, merged={}",
                 fromUserId, toUserId, moved, merged);
     }
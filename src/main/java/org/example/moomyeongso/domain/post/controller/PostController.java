@@ -14,7 +14,6 @@ import org.example.moomyeongso.domain.post.dto.response.PostCreateResponseDto;
 import org.example.moomyeongso.domain.post.dto.response.PostDetailResponseDto;
 import org.example.moomyeongso.domain.post.dto.response.PostPreviewCursorListResponse;
 import org.example.moomyeongso.domain.post.dto.response.PostPreviewListResponse;
-import org.example.moomyeongso.domain.post.dto.response.PostPreviewResponseDto;
 import org.example.moomyeongso.domain.post.entity.PostType;
 import org.example.moomyeongso.domain.post.service.PostService;
 import org.example.moomyeongso.domain.readhistory.service.ReadHistoryService;
@@ -115,23 +114,31 @@ public class PostController {
         return ApiResponse.success(HttpStatus.OK);
     }
 
-    @Operation(summary = "내가 쓴 글 조회", description = "내가 작성한 게시글 목록을 반환합니다. type 파라미터로 타입 필터링이 가능합니다.")
+    @Operation(summary = "내가 쓴 글 조회", description = "내가 작성한 게시글 목록을 최신순으로 반환합니다. type 파라미터로 타입 필터링이 가능하고, cursor에는 마지막으로 로드한 postId를 전달합니다.")
     @GetMapping("/posts/me")
-    public ResponseEntity<ApiResponse<List<PostPreviewResponseDto>>> getMyPosts(
-            @RequestParam(required = false) PostType type) {
+    public ResponseEntity<ApiResponse<PostPreviewCursorListResponse>> getMyPosts(
+            @RequestParam(required = false) PostType type,
+            @Parameter(description = "마지막으로 로드한 게시물의 postId")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "가져올 글 수")
+            @RequestParam(defaultValue = "20") int limit) {
 
         String subject = SecurityUtils.getCurrentSubject();
 
-        List<PostPreviewResponseDto> response = postService.getMyPosts(subject, type);
+        PostPreviewCursorListResponse response = postService.getMyPosts(subject, type, cursor, limit);
         return ApiResponse.success(HttpStatus.OK,response);
     }
 
-    @Operation(summary = "내가 열람한 글 조회", description = "내가 열람한 게시글 목록을 최신순으로 반환합니다. type 파라미터로 타입 필터링이 가능합니다.")
+    @Operation(summary = "내가 열람한 글 조회", description = "내가 열람한 게시글 목록을 최근 열람순으로 반환합니다. type 파라미터로 타입 필터링이 가능하고, cursor에는 직전 응답의 nextCursor를 전달합니다.")
     @GetMapping("/posts/me/read")
-    public ResponseEntity<ApiResponse<PostPreviewListResponse>> getMyReadPosts(
-            @RequestParam(required = false) PostType type) {
+    public ResponseEntity<ApiResponse<PostPreviewCursorListResponse>> getMyReadPosts(
+            @RequestParam(required = false) PostType type,
+            @Parameter(description = "직전 응답의 nextCursor")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "가져올 글 수")
+            @RequestParam(defaultValue = "20") int limit) {
         String subject = SecurityUtils.getCurrentSubject();
-        PostPreviewListResponse response = readHistoryService.getMyReadPosts(subject, type);
+        PostPreviewCursorListResponse response = readHistoryService.getMyReadPosts(subject, type, cursor, limit);
         return ApiResponse.success(HttpStatus.OK, response);
     }
 
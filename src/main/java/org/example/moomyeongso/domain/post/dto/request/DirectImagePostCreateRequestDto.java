@@ -0,0 +1,20 @@
+package org.example.moomyeongso.domain.post.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record DirectImagePostCreateRequestDto(
+        @NotEmpty
+        List<String> imageIds,
+        @Size(max = 30)
+        String from,
+        @Size(max = 30)
+        String to,
+        List<String> tags
+) {
+    public ImagePostCreateRequestDto toImagePostCreateRequest() {
+        return new ImagePostCreateRequestDto(from, to, tags);
+    }
+}
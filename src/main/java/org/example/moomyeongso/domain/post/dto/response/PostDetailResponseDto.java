@@ -22,6 +22,10 @@ public record PostDetailResponseDto(
         List<PostCommentResponseDto> comments
 ) {
     public static PostDetailResponseDto from(Post post, int coin, List<PostCommentResponseDto> comments) {
+        return from(post, post.getViews(), coin, comments);
+    }
+
+    public static PostDetailResponseDto from(Post post, long views, int coin, List<PostCommentResponseDto> comments) {
         long commentCount = comments.size();
         List<PostImageResponseDto> images = Optional.ofNullable(post.getImages()).orElse(List.of()).stream()
                 .map(PostImageResponseDto::from)
@@ -34,7 +38,7 @@ public record PostDetailResponseDto(
                 post.getContent(),
                 post.getLikes(),
                 commentCount,
-                post.getViews(),
+                views,
                 post.getCreatedAt(),
                 coin,
                 images,
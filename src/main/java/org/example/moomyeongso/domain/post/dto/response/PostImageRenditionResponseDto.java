@@ -0,0 +1,30 @@
+package org.example.moomyeongso.domain.post.dto.response;
+
+import org.example.moomyeongso.domain.post.entity.PostImageRendition;
+
+import java.util.List;
+import java.util.Optional;
+
+public record PostImageRenditionResponseDto(
+        int size,
+        int width,
+        int height,
+        String url,
+        String contentType
+) {
+    public static PostImageRenditionResponseDto from(PostImageRendition rendition) {
+        return new PostImageRenditionResponseDto(
+                rendition.getSize(),
+                rendition.getWidth(),
+                rendition.getHeight(),
+                rendition.getUrl(),
+                rendition.getContentType()
+        );
+    }
+
+    public static List<PostImageRenditionResponseDto> listOf(List<PostImageRendition> renditions) {
+        return Optional.ofNullable(renditions).orElse(List.of()).stream()
+                .map(PostImageRenditionResponseDto::from)
+                .toList();
+    }
+}
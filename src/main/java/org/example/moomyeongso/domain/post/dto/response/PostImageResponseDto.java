@@ -1,11 +1,16 @@
 package org.example.moomyeongso.domain.post.dto.response;
 
 import org.example.moomyeongso.domain.post.entity.PostImageAttachment;
+import org.example.moomyeongso.domain.postimage.entity.PostImageProcessingStatus;
+
+import java.util.List;
 
 public record PostImageResponseDto(
         String imageId,
         String imageUrl,
         String thumbnailUrl,
+        List<PostImageRenditionResponseDto> renditions,
+        PostImageProcessingStatus processingStatus,
         int sortOrder
 ) {
     public static PostImageResponseDto from(PostImageAttachment image) {
@@ -13,6 +18,8 @@ public record PostImageResponseDto(
                 image.getImageId(),
                 image.getImageUrl(),
                 image.getThumbnailUrl(),
+                PostImageRenditionResponseDto.listOf(image.getRenditions()),
+                image.resolveProcessingStatus(),
                 image.getSortOrder()
         );
     }
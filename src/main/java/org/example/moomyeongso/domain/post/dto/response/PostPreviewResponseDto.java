@@ -23,41 +23,25 @@ public record PostPreviewResponseDto(
         String thumbnailUrl,
         Instant createdAt
 ) {
-    private static final int PREVIEW_MAX_LENGTH = 100;
-    private static final String ELLIPSIS = "...";
-
     public static PostPreviewResponseDto from(Post post) {
         return from(post, post.getCommentCount());
     }
 
     public static PostPreviewResponseDto from(Post post, long commentCount) {
-        String content = post.getContent() == null ? "" : post.getContent();
-
-        String preview = content.length() > PREVIEW_MAX_LENGTH
-                ? content.substring(0, PREVIEW_MAX_LENGTH) + ELLIPSIS
-                : content;
-
         return new PostPreviewResponseDto(
                 post.getId(),
                 post.getUserId(),
                 post.getType(),
                 post.getFrom(),
                 post.getTo(),
-                preview,
-                content.length(),
+                post.getContentPreview(),
+                post.getContentLength(),
                 post.getTags(),
                 post.getLikes(),
                 commentCount,
                 post.getViews(),
-                resolveThumbnailUrl(post),
+                post.getThumbnailUrl(),
                 post.getCreatedAt()
         );
     }
-
-    private static String resolveThumbnailUrl(Post post) {
-        if (post.getImages() == null || post.getImages().isEmpty()) {
-            return null;
-        }
-        return post.getImages().get(0).getThumbnailUrl();
-    }
 }
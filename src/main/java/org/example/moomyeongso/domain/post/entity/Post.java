@@ -16,7 +16,8 @@ import java.util.List;
 @CompoundIndexes({
         @CompoundIndex(name = "status_tags_idx", def = "{'status': 1, 'tags': 1}"),
         @CompoundIndex(name = "status_id_desc_idx", def = "{'status': 1, '_id': -1}"),
-        @CompoundIndex(name = "type_status_id_desc_idx", def = "{'type': 1, 'status': 1, '_id': -1}")
+        @CompoundIndex(name = "type_status_id_desc_idx", def = "{'type': 1, 'status': 1, '_id': -1}"),
+        @CompoundIndex(name = "user_status_type_id_desc_idx", def = "{'userId': 1, 'status': 1, 'type': 1, '_id': -1}")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -27,6 +28,8 @@ import java.util.List;
 public class Post {
 
     public static final String DEFAULT_DISPLAY_NAME = "익명";
+    private static final int PREVIEW_MAX_LENGTH = 100;
+    private static final String ELLIPSIS = "...";
 
     @Id
     private String id;
@@ -65,11 +68,19 @@ public class Post {
     @Builder.Default
     private List<PostImageAttachment> images = new ArrayList<>();
 
+    // 피드 조회 시 content를 읽지 않도록 작성 시점에 미리 계산해 두는 미리보기 필드
+    private String contentPreview;
+
+    private Integer contentLength;
+
+    private String thumbnailUrl;
+
     @CreatedDate
     private Instant createdAt;
 
     public void updateByAdmin(String content) {
         this.content = content;
+        refreshPreview();
     }
     public void deleteByAdmin() {
         this.status = PostStatus.DELETED;
@@ -85,6 +96,13 @@ public class Post {
 
     public void attachImages(List<PostImageAttachment> images) {
         this.images = images == null ? new ArrayList<>() : new ArrayList<>(images);
+        refreshPreview();
+    }
+
+    public void refreshPreview() {
+        this.contentPreview = buildContentPreview(content);
+        this.contentLength = content == null ? 0 : content.length();
+        this.thumbnailUrl = resolveThumbnailUrl(images);
     }
 
     public String getFrom() {
@@ -95,6 +113,38 @@ public class Post {
         return normalizeDisplayName(to);
     }
 
+    // 미리보기 필드가 없는 기존 문서는 원본 값으로 계산
+    public String getContentPreview() {
+        return contentPreview != null ? contentPreview : buildContentPreview(content);
+    }
+
+    public int getContentLength() {
+        if (contentLength != null) {
+            return contentLength;
+        }
+        return content == null ? 0 : content.length();
+    }
+
+    public String getThumbnailUrl() {
+        return thumbnailUrl != null ? thumbnailUrl : resolveThumbnailUrl(images);
+    }
+
+    private static String buildContentPreview(String content) {
+        if (content == null) {
+            return "";
+        }
+        return content.length() > PREVIEW_MAX_LENGTH
+                ? content.substring(0, PREVIEW_MAX_LENGTH) + ELLIPSIS
+                : content;
+    }
+
+    private static String resolveThumbnailUrl(List<PostImageAttachment> images) {
+        if (images == null || images.isEmpty()) {
+            return null;
+        }
+        return images.get(0).getThumbnailUrl();
+    }
+
     private String normalizeDisplayName(String value) {
         return value == null || value.isBlank() ? DEFAULT_DISPLAY_NAME : value.trim();
     }
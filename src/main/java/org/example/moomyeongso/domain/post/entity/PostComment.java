@@ -54,7 +54,6 @@ public class PostComment {
     @CreatedDate
     private Instant createdAt;
 
-    public void markDeleted() {
-        this.status = PostCommentStatus.DELETED;
-    }
+    // ACTIVE -> DELETED 전이 시각. commentCount 보정이 방금 삭제된 댓글의 게시글을 건너뛰는 데 쓴다
+    private Instant deletedAt;
 }
@@ -4,6 +4,10 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.example.moomyeongso.domain.postimage.entity.PostImageProcessingStatus;
+
+import java.util.ArrayList;
+import java.util.List;
 
 @Getter
 @NoArgsConstructor
@@ -13,7 +17,16 @@ public class PostImageAttachment {
 
     private String imageId;
     private String imageUrl;
+    // 렌디션이 준비되기 전에는 비어 있다
     private String thumbnailUrl;
+    @Builder.Default
+    private List<PostImageRendition> renditions = new ArrayList<>();
+    // 비동기 처리 도입 이전 문서는 null(READY로 취급)
+    private PostImageProcessingStatus processingStatus;
     private int sortOrder;
+
+    public PostImageProcessingStatus resolveProcessingStatus() {
+        return processingStatus == null ? PostImageProcessingStatus.READY : processingStatus;
+    }
 }
 
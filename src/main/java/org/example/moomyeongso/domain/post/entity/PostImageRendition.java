@@ -0,0 +1,23 @@
+package org.example.moomyeongso.domain.post.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 반응형 썸네일 한 벌. size는 설정된 긴 변 기준 크기이고 width/height는 실제 결과물 크기다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostImageRendition {
+
+    private int size;
+    private int width;
+    private int height;
+    private String storageKey;
+    private String url;
+    private String contentType;
+}
@@ -8,6 +8,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Getter
@@ -23,6 +24,8 @@ public enum PostTag {
     private static final int DEFAULT_PRIORITY = Integer.MAX_VALUE;
     private static final Map<String, Integer> PRIORITY_BY_LABEL = Arrays.stream(values())
             .collect(Collectors.toUnmodifiableMap(PostTag::getLabel, PostTag::getPriority));
+    private static final Map<String, PostTag> TAG_BY_LABEL = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(PostTag::getLabel, tag -> tag));
 
     private final String label;
     private final int priority;
@@ -43,6 +46,11 @@ public enum PostTag {
                 .collect(Collectors.toCollection(ArrayList::new));
     }
 
+    public static Optional<PostTag> fromLabel(String label) {
+        if (label == null) return Optional.empty();
+        return Optional.ofNullable(TAG_BY_LABEL.get(normalizeLabel(label)));
+    }
+
     private static String normalizeLabel(String label) {
         return label.trim().toUpperCase(java.util.Locale.ROOT);
     }
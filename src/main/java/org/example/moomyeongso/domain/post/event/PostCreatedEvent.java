@@ -0,0 +1,10 @@
+package org.example.moomyeongso.domain.post.event;
+
+import java.util.List;
+
+public record PostCreatedEvent(
+        String postId,
+        String userId,
+        List<String> tags
+) {
+}
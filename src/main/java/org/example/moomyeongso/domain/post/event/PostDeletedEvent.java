@@ -0,0 +1,6 @@
+package org.example.moomyeongso.domain.post.event;
+
+public record PostDeletedEvent(
+        String postId
+) {
+}
@@ -0,0 +1,7 @@
+package org.example.moomyeongso.domain.post.event;
+
+public record PostOwnerMigratedEvent(
+        String fromUserId,
+        String toUserId
+) {
+}
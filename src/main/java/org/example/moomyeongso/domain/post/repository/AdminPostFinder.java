@@ -0,0 +1,56 @@
+package org.example.moomyeongso.domain.post.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.moomyeongso.domain.post.entity.Post;
+import org.example.moomyeongso.domain.post.entity.PostStatus;
+import org.example.moomyeongso.domain.post.entity.PostType;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 관리자용 게시글 조회. status_id_desc_idx / type_status_id_desc_idx 인덱스 순서대로 _id 역순으로 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AdminPostFinder {
+
+    private static final int EXPORT_CURSOR_BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+
+    public List<Post> findPage(PostStatus status, PostType type, String cursor, int size) {
+        Criteria criteria = statusAndType(status, type);
+        if (cursor != null) {
+            criteria.and("_id").lt(cursor);
+        }
+
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, "_id"))
+                .limit(size);
+        return mongoTemplate.find(query, Post.class);
+    }
+
+    /**
+     * 전체 결과를 메모리에 올리지 않고 Mongo 커서로 순회한다. 호출 측에서 반드시 close 해야 한다.
+     */
+    public Stream<Post> stream(PostStatus status, PostType type) {
+        Query query = Query.query(statusAndType(status, type))
+                .with(Sort.by(Sort.Direction.DESC, "_id"))
+                .cursorBatchSize(EXPORT_CURSOR_BATCH_SIZE);
+        return mongoTemplate.stream(query, Post.class);
+    }
+
+    private Criteria statusAndType(PostStatus status, PostType type) {
+        Criteria criteria = Criteria.where("status").is(status);
+        if (type != null) {
+            criteria.and("type").is(type);
+        }
+        return criteria;
+    }
+}
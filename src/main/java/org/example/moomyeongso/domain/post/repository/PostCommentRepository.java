@@ -10,6 +10,5 @@ import java.util.Optional;
 public interface PostCommentRepository extends MongoRepository<PostComment, String> {
     List<PostComment> findAllByPostIdAndStatusOrderByCreatedAtAsc(String postId, PostCommentStatus status);
     Optional<PostComment> findByIdAndPostIdAndStatus(String id, String postId, PostCommentStatus status);
-    long countByPostIdAndStatus(String postId, PostCommentStatus status);
     boolean existsByPostIdAndAuthorIdAndStatus(String postId, String authorId, PostCommentStatus status);
 }
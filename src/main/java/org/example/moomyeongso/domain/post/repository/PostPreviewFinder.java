@@ -0,0 +1,108 @@
+package org.example.moomyeongso.domain.post.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.moomyeongso.domain.post.entity.Post;
+import org.example.moomyeongso.domain.post.entity.PostStatus;
+import org.example.moomyeongso.domain.post.entity.PostType;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 피드 미리보기 전용 조회. 본문(content)과 이미지 목록은 읽지 않고
+ * 작성 시점에 저장된 contentPreview / contentLength / thumbnailUrl만 가져온다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostPreviewFinder {
+
+    private static final String[] PREVIEW_EXCLUDED_FIELDS = {"content", "images"};
+    // type 필드가 없는 예전 글도 포함하도록 null을 함께 나열
+    private static final List<PostType> ALL_TYPES_OR_MISSING = Stream.concat(
+            Arrays.stream(PostType.values()),
+            Stream.of((PostType) null)
+    ).toList();
+
+    private final MongoTemplate mongoTemplate;
+
+    public List<Post> findPreviewPageExcludingUser(
+            PostType type,
+            PostStatus status,
+            String excludedUserId,
+            String cursor,
+            int size
+    ) {
+        Criteria criteria = Criteria.where("status").is(status)
+                .and("userId").ne(excludedUserId);
+        if (type != null) {
+            criteria.and("type").is(type);
+        }
+        if (cursor != null) {
+            criteria.and("_id").lt(cursor);
+        }
+
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, "_id"))
+                .limit(size);
+        query.fields().exclude(PREVIEW_EXCLUDED_FIELDS);
+        return mongoTemplate.find(query, Post.class);
+    }
+
+    /**
+     * 특정 사용자의 글을 최신순으로 조회한다.
+     * 타입을 지정하지 않으면 모든 타입을 $in으로 나열해 {userId, status, type, _id} 인덱스의
+     * 타입별 구간을 병합 정렬(SORT_MERGE)하도록 하여 메모리 정렬을 피한다.
+     */
+    public List<Post> findPreviewPageByUser(
+            String userId,
+            PostStatus status,
+            PostType type,
+            String cursor,
+            int size
+    ) {
+        Criteria criteria = Criteria.where("userId").is(userId)
+                .and("status").is(status);
+        if (type != null) {
+            criteria.and("type").is(type);
+        } else {
+            criteria.and("type").in(ALL_TYPES_OR_MISSING);
+        }
+        if (cursor != null) {
+            criteria.and("_id").lt(cursor);
+        }
+
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, "_id"))
+                .limit(size);
+        query.fields().exclude(PREVIEW_EXCLUDED_FIELDS);
+        return mongoTemplate.find(query, Post.class);
+    }
+
+    /**
+     * 주어진 id 순서를 유지해 미리보기를 조회한다. 그 사이 상태가 바뀐 게시글은 제외된다.
+     */
+    public List<Post> findPreviewsByIds(List<String> ids, PostStatus status) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Query query = Query.query(Criteria.where("_id").in(ids).and("status").is(status));
+        query.fields().exclude(PREVIEW_EXCLUDED_FIELDS);
+        Map<String, Post> postsById = mongoTemplate.find(query, Post.class).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        return ids.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
@@ -0,0 +1,395 @@
+package org.example.moomyeongso.domain.post.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.example.moomyeongso.domain.post.entity.Post;
+import org.example.moomyeongso.domain.post.entity.PostStatus;
+import org.example.moomyeongso.domain.post.entity.PostTag;
+import org.example.moomyeongso.domain.post.event.PostCreatedEvent;
+import org.example.moomyeongso.domain.post.event.PostDeletedEvent;
+import org.example.moomyeongso.domain.post.event.PostOwnerMigratedEvent;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * 무작위 추천용 인메모리 인덱스.
+ * ACTIVE 게시글 id(ObjectId 12바이트)와 작성자 번호를 원시 배열로 보관하고 태그별 슬롯 버킷을 둔다.
+ * $sample 대신 O(k) 무작위 샘플링으로 후보를 고른 뒤 선택된 k개만 Mongo에서 읽는다.
+ *
+ * 게시글 작성/삭제/소유자 이전 이벤트로 증분 갱신하고, 다른 노드에서 발생한 변경은 주기적 재구성으로 반영한다.
+ * 재구성 중에 들어온 이벤트는 기록해 두었다가 교체 직전에 새 상태에 다시 적용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RandomPostIndex {
+
+    private static final int SAMPLE_ATTEMPTS_PER_PICK = 16;
+
+    private final MongoTemplate mongoTemplate;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // lock으로 보호
+    private State state = new State();
+    private List<Consumer<State>> eventsDuringRebuild;
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public synchronized void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        State rebuilt = new State();
+        lock.writeLock().lock();
+        try {
+            eventsDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Query query = Query.query(Criteria.where("status").is(PostStatus.ACTIVE));
+        query.fields().include("_id", "userId", "tags");
+        try (Stream<Post> posts = mongoTemplate.stream(query, Post.class)) {
+            posts.forEach(post -> rebuilt.add(post.getId(), post.getUserId(), post.getTags()));
+        } catch (RuntimeException ex) {
+            lock.writeLock().lock();
+            try {
+                eventsDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw ex;
+        }
+
+        lock.writeLock().lock();
+        try {
+            // 스트림이 이미 읽은 게시글에 대한 이벤트일 수 있으므로 add/remove는 중복 적용해도 결과가 같다
+            eventsDuringRebuild.forEach(event -> event.accept(rebuilt));
+            eventsDuringRebuild = null;
+            state = rebuilt;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Random post index rebuilt. posts={}, elapsedMs={}",
+                rebuilt.size, System.currentTimeMillis() - startedAt);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostCreated(PostCreatedEvent event) {
+        apply(target -> target.add(event.postId(), event.userId(), event.tags()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostDeleted(PostDeletedEvent event) {
+        apply(target -> target.remove(event.postId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostOwnerMigrated(PostOwnerMigratedEvent event) {
+        apply(target -> target.reassignOwner(event.fromUserId(), event.toUserId()));
+    }
+
+    private void apply(Consumer<State> event) {
+        lock.writeLock().lock();
+        try {
+            event.accept(state);
+            if (eventsDuringRebuild != null) {
+                eventsDuringRebuild.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Sampler newSampler(String excludedUserId) {
+        return newSampler(excludedUserId, postId -> false);
+    }
+
+    /**
+     * 한 번의 추천 요청 동안 사용할 샘플러. 같은 샘플러에서 뽑힌 게시글은 다시 뽑히지 않는다.
+     * deprioritized에 해당하는 게시글은 태그 추천에서는 제외하고, 일반 추천에서는 다른 후보가 모자랄 때만 채워 넣는다.
+     */
+    public Sampler newSampler(String excludedUserId, Predicate<String> deprioritized) {
+        lock.readLock().lock();
+        try {
+            return new Sampler(state, state.ownerIdOf(excludedUserId), deprioritized);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public final class Sampler {
+
+        private final State snapshot;
+        private final int excludedOwnerId;
+        private final Predicate<String> deprioritized;
+        private final Set<Integer> pickedSlots = new HashSet<>();
+
+        private Sampler(State snapshot, int excludedOwnerId, Predicate<String> deprioritized) {
+            this.snapshot = snapshot;
+            this.excludedOwnerId = excludedOwnerId;
+            this.deprioritized = deprioritized;
+        }
+
+        public List<String> pick(int count) {
+            return pickFrom(null, count, true);
+        }
+
+        public List<String> pickTagged(Collection<String> tags, int count) {
+            int[] tagOrdinals = tags.stream()
+                    .map(PostTag::fromLabel)
+                    .flatMap(Optional::stream)
+                    .mapToInt(Enum::ordinal)
+                    .distinct()
+                    .toArray();
+            if (tagOrdinals.length == 0) {
+                return List.of();
+            }
+            return pickFrom(tagOrdinals, count, false);
+        }
+
+        private List<String> pickFrom(int[] tagOrdinals, int count, boolean fillWithDeprioritized) {
+            if (count <= 0) {
+                return List.of();
+            }
+
+            lock.readLock().lock();
+            try {
+                int poolSize = snapshot.poolSize(tagOrdinals);
+                if (poolSize == 0) {
+                    return List.of();
+                }
+
+                List<String> picked = new ArrayList<>(count);
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                int attempts = count * SAMPLE_ATTEMPTS_PER_PICK;
+                while (picked.size() < count && attempts-- > 0) {
+                    tryPick(snapshot.slotAt(tagOrdinals, random.nextInt(poolSize)), picked, false);
+                }
+
+                // 후보 대부분이 제외 대상인 경우 무작위 시작점부터 순회해 남은 자리를 채우고,
+                // 태그 없는 추천은 그래도 모자라면 후순위 게시글까지 허용한다
+                int start = random.nextInt(poolSize);
+                for (int i = 0; i < poolSize && picked.size() < count; i++) {
+                    tryPick(snapshot.slotAt(tagOrdinals, (start + i) % poolSize), picked, false);
+                }
+                for (int i = 0; fillWithDeprioritized && i < poolSize && picked.size() < count; i++) {
+                    tryPick(snapshot.slotAt(tagOrdinals, (start + i) % poolSize), picked, true);
+                }
+                return picked;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private void tryPick(int slot, List<String> picked, boolean allowDeprioritized) {
+            if (!snapshot.isEligible(slot, excludedOwnerId) || pickedSlots.contains(slot)) {
+                return;
+            }
+            String postId = snapshot.postIdAt(slot);
+            if (!allowDeprioritized && deprioritized.test(postId)) {
+                return;
+            }
+            pickedSlots.add(slot);
+            picked.add(postId);
+        }
+    }
+
+    private static final class State {
+
+        private static final int INITIAL_CAPACITY = 1024;
+        private static final int INITIAL_TAG_CAPACITY = 256;
+        private static final int NO_OWNER = -1;
+        private static final int EMPTY_SLOT = -1;
+        private static final HexFormat HEX = HexFormat.of();
+
+        private final Map<String, Integer> ownerIds = new HashMap<>();
+        private final BitSet removed = new BitSet();
+        private final int[][] tagSlots = new int[PostTag.values().length][];
+        private final int[] tagSizes = new int[PostTag.values().length];
+        private long[] idHighs = new long[INITIAL_CAPACITY];
+        private int[] idLows = new int[INITIAL_CAPACITY];
+        private int[] owners = new int[INITIAL_CAPACITY];
+        // id → 슬롯 개방 주소 해시 테이블. 빈 칸은 EMPTY_SLOT
+        private int[] slotTable = newSlotTable(INITIAL_CAPACITY * 2);
+        private int size;
+        // 소유자 번호는 재사용하지 않는다. 이전으로 ownerIds에서 빠진 번호를 새 사용자가 받으면 다른 사람의 글이 제외된다
+        private int nextOwnerId;
+
+        private void add(String postId, String userId, List<String> tags) {
+            if (postId == null || !ObjectId.isValid(postId)) {
+                return;
+            }
+            long high = Long.parseUnsignedLong(postId, 0, 16, 16);
+            int low = Integer.parseUnsignedInt(postId, 16, 24, 16);
+            if (slotOf(high, low) != EMPTY_SLOT) {
+                return;
+            }
+            if (size == idHighs.length) {
+                int capacity = size * 2;
+                idHighs = Arrays.copyOf(idHighs, capacity);
+                idLows = Arrays.copyOf(idLows, capacity);
+                owners = Arrays.copyOf(owners, capacity);
+            }
+
+            int slot = size++;
+            idHighs[slot] = high;
+            idLows[slot] = low;
+            owners[slot] = userId == null ? NO_OWNER : ownerIds.computeIfAbsent(userId, key -> nextOwnerId++);
+            indexSlot(slot);
+            if (tags != null) {
+                tags.stream()
+                        .map(PostTag::fromLabel)
+                        .flatMap(Optional::stream)
+                        .distinct()
+                        .forEach(tag -> addToTagBucket(tag.ordinal(), slot));
+            }
+        }
+
+        private void addToTagBucket(int tagOrdinal, int slot) {
+            int[] bucket = tagSlots[tagOrdinal];
+            if (bucket == null) {
+                bucket = new int[INITIAL_TAG_CAPACITY];
+            } else if (tagSizes[tagOrdinal] == bucket.length) {
+                bucket = Arrays.copyOf(bucket, bucket.length * 2);
+            }
+            bucket[tagSizes[tagOrdinal]++] = slot;
+            tagSlots[tagOrdinal] = bucket;
+        }
+
+        // 삭제는 표시만 하고, 정리는 재구성 시 수행
+        private void remove(String postId) {
+            if (postId == null || !ObjectId.isValid(postId)) {
+                return;
+            }
+            int slot = slotOf(Long.parseUnsignedLong(postId, 0, 16, 16), Integer.parseUnsignedInt(postId, 16, 24, 16));
+            if (slot != EMPTY_SLOT) {
+                removed.set(slot);
+            }
+        }
+
+        private int slotOf(long high, int low) {
+            int mask = slotTable.length - 1;
+            for (int index = hash(high, low) & mask; ; index = (index + 1) & mask) {
+                int slot = slotTable[index];
+                if (slot == EMPTY_SLOT || (idHighs[slot] == high && idLows[slot] == low)) {
+                    return slot;
+                }
+            }
+        }
+
+        private void indexSlot(int slot) {
+            // 채움률을 1/2 이하로 유지
+            if (size * 2 > slotTable.length) {
+                slotTable = newSlotTable(slotTable.length * 2);
+                for (int existing = 0; existing < size - 1; existing++) {
+                    insertSlot(existing);
+                }
+            }
+            insertSlot(slot);
+        }
+
+        private void insertSlot(int slot) {
+            int mask = slotTable.length - 1;
+            int index = hash(idHighs[slot], idLows[slot]) & mask;
+            while (slotTable[index] != EMPTY_SLOT) {
+                index = (index + 1) & mask;
+            }
+            slotTable[index] = slot;
+        }
+
+        private static int[] newSlotTable(int capacity) {
+            int[] table = new int[capacity];
+            Arrays.fill(table, EMPTY_SLOT);
+            return table;
+        }
+
+        private static int hash(long high, int low) {
+            long mixed = (high ^ (high >>> 29) ^ low) * 0x9E3779B97F4A7C15L;
+            return (int) (mixed ^ (mixed >>> 32));
+        }
+
+        private void reassignOwner(String fromUserId, String toUserId) {
+            Integer fromOwnerId = ownerIds.remove(fromUserId);
+            if (fromOwnerId == null || toUserId == null) {
+                return;
+            }
+
+            Integer toOwnerId = ownerIds.putIfAbsent(toUserId, fromOwnerId);
+            if (toOwnerId == null) {
+                return;
+            }
+            for (int slot = 0; slot < size; slot++) {
+                if (owners[slot] == fromOwnerId) {
+                    owners[slot] = toOwnerId;
+                }
+            }
+        }
+
+        private int ownerIdOf(String userId) {
+            if (userId == null) {
+                return NO_OWNER;
+            }
+            return ownerIds.getOrDefault(userId, NO_OWNER);
+        }
+
+        private int poolSize(int[] tagOrdinals) {
+            if (tagOrdinals == null) {
+                return size;
+            }
+            int poolSize = 0;
+            for (int tagOrdinal : tagOrdinals) {
+                poolSize += tagSizes[tagOrdinal];
+            }
+            return poolSize;
+        }
+
+        private int slotAt(int[] tagOrdinals, int poolIndex) {
+            if (tagOrdinals == null) {
+                return poolIndex;
+            }
+            int index = poolIndex;
+            for (int tagOrdinal : tagOrdinals) {
+                if (index < tagSizes[tagOrdinal]) {
+                    return tagSlots[tagOrdinal][index];
+                }
+                index -= tagSizes[tagOrdinal];
+            }
+            throw new IndexOutOfBoundsException(poolIndex);
+        }
+
+        private boolean isEligible(int slot, int excludedOwnerId) {
+            if (removed.get(slot)) {
+                return false;
+            }
+            return excludedOwnerId == NO_OWNER || owners[slot] != excludedOwnerId;
+        }
+
+        private String postIdAt(int slot) {
+            return HEX.toHexDigits(idHighs[slot]) + HEX.toHexDigits(idLows[slot]);
+        }
+    }
+}
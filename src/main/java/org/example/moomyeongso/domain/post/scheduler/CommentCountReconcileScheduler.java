@@ -0,0 +1,18 @@
+package org.example.moomyeongso.domain.post.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import org.example.moomyeongso.domain.post.service.PostCommentService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class CommentCountReconcileScheduler {
+
+    private final PostCommentService postCommentService;
+
+    @Scheduled(cron = "0 30 4 * * *", zone = "Asia/Seoul")
+    public void reconcileCommentCounts() {
+        postCommentService.reconcileCommentCounts();
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.moomyeongso.domain.post.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import org.example.moomyeongso.domain.post.service.PostViewCountAggregator;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PostViewCountFlushScheduler {
+
+    private final PostViewCountAggregator postViewCountAggregator;
+
+    @Scheduled(fixedDelayString = "${app.post-views.flush-interval-ms:5000}")
+    public void flushViewCounts() {
+        postViewCountAggregator.flush();
+    }
+}
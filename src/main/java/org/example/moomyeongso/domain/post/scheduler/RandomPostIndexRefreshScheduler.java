@@ -0,0 +1,28 @@
+package org.example.moomyeongso.domain.post.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.moomyeongso.domain.post.repository.RandomPostIndex;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 직후 무작위 추천 인덱스를 만들고, 이후 주기적으로 재구성해
+ * 다른 인스턴스에서 발생한 작성/삭제와 누적된 삭제 표시를 정리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RandomPostIndexRefreshScheduler {
+
+    private final RandomPostIndex randomPostIndex;
+
+    @Scheduled(fixedDelayString = "${app.random-posts.index-refresh-interval-ms:600000}")
+    public void refreshIndex() {
+        try {
+            randomPostIndex.rebuild();
+        } catch (RuntimeException ex) {
+            log.warn("Random post index rebuild failed", ex);
+        }
+    }
+}
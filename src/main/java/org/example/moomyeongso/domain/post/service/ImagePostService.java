@@ -1,6 +1,7 @@
 package org.example.moomyeongso.domain.post.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.moomyeongso.domain.post.dto.request.DirectImagePostCreateRequestDto;
 import org.example.moomyeongso.domain.post.dto.request.ImagePostCreateRequestDto;
 import org.example.moomyeongso.domain.post.dto.response.PostCreateResponseDto;
 import org.example.moomyeongso.domain.postimage.dto.response.PostImageUploadResponseDto;
@@ -29,4 +30,12 @@ public class ImagePostService {
                 .toList();
         return postService.createImagePost(request, imageIds, userId);
     }
+
+    /**
+     * presigned URL로 직접 올린 이미지를 확정한 뒤 게시글을 작성한다.
+     */
+    public PostCreateResponseDto createImagePostFromDirectUploads(DirectImagePostCreateRequestDto request, String userId) {
+        postImageService.finalizeDirectUploads(request.imageIds(), userId);
+        return postService.createImagePost(request.toImagePostCreateRequest(), request.imageIds(), userId);
+    }
 }
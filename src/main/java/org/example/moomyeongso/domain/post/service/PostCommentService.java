@@ -1,25 +1,118 @@
 package org.example.moomyeongso.domain.post.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.bson.Document;
+import org.example.moomyeongso.domain.post.entity.Post;
 import org.example.moomyeongso.domain.post.entity.PostComment;
 import org.example.moomyeongso.domain.post.entity.PostCommentStatus;
+import org.example.moomyeongso.domain.post.entity.PostStatus;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.aggregation.AggregationResults;
 import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PostCommentService {
 
+    private static final int RECONCILE_BATCH_SIZE = 500;
+    // 댓글 쓰기와 commentCount $inc 사이 간격보다 충분히 길게 잡는다
+    private static final Duration RECONCILE_GRACE = Duration.ofMinutes(1);
+
     private final MongoTemplate mongoTemplate;
 
+    /**
+     * 피드 경로는 posts.commentCount만 읽으므로, 실제 ACTIVE 댓글 수와 어긋난 값을 배치 단위로 보정한다.
+     * 댓글 쓰기와 $inc는 따로 반영되므로, 유예 시간 안에 댓글이 작성/삭제된 게시글은 $inc가 아직 남았을 수 있어 건너뛴다.
+     */
+    public void reconcileCommentCounts() {
+        Instant activityCutoff = Instant.now().minus(RECONCILE_GRACE);
+        String lastPostId = null;
+        long scanned = 0;
+        long repaired = 0;
+
+        List<Post> posts;
+        while (!(posts = findActivePostsAfter(lastPostId)).isEmpty()) {
+            List<String> postIds = posts.stream().map(Post::getId).toList();
+            Set<String> recentlyActive = findPostsWithCommentActivitySince(postIds, activityCutoff);
+            Map<String, Long> activeCounts = getActiveCommentCounts(postIds);
+            repaired += repairDriftedCounts(posts, activeCounts, recentlyActive);
+            scanned += posts.size();
+            lastPostId = posts.get(posts.size() - 1).getId();
+        }
+
+        if (repaired > 0) {
+            log.warn("Comment count drift repaired. scanned={}, repaired={}", scanned, repaired);
+            return;
+        }
+        log.info("Comment count reconcile completed without repairs. scanned={}", scanned);
+    }
+
+    private List<Post> findActivePostsAfter(String lastPostId) {
+        Criteria criteria = Criteria.where("status").is(PostStatus.ACTIVE);
+        if (lastPostId != null) {
+            criteria.and("_id").gt(lastPostId);
+        }
+
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Direction.ASC, "_id"))
+                .limit(RECONCILE_BATCH_SIZE);
+        query.fields().include("_id", "commentCount");
+        return mongoTemplate.find(query, Post.class);
+    }
+
+    private Set<String> findPostsWithCommentActivitySince(List<String> postIds, Instant cutoff) {
+        Query query = Query.query(new Criteria().andOperator(
+                Criteria.where("postId").in(postIds),
+                new Criteria().orOperator(
+                        Criteria.where("createdAt").gte(cutoff),
+                        Criteria.where("deletedAt").gte(cutoff)
+                )
+        ));
+        return new HashSet<>(mongoTemplate.findDistinct(query, "postId", PostComment.class, String.class));
+    }
+
+    private long repairDriftedCounts(List<Post> posts, Map<String, Long> activeCounts, Set<String> recentlyActive) {
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Post.class);
+        int drifted = 0;
+        for (Post post : posts) {
+            long actual = activeCounts.getOrDefault(post.getId(), 0L);
+            if (post.getCommentCount() == actual || recentlyActive.contains(post.getId())) {
+                continue;
+            }
+            log.warn("Comment count drift detected. postId={}, stored={}, actual={}",
+                    post.getId(), post.getCommentCount(), actual);
+            // 집계 이후 작성/삭제의 $inc가 반영됐다면 읽은 값과 달라지므로 덮어쓰지 않고 다음 실행에 맡긴다
+            bulk.updateOne(
+                    Query.query(Criteria.where("_id").is(post.getId())
+                            .and("commentCount").is(post.getCommentCount())),
+                    new Update().set("commentCount", actual)
+            );
+            drifted++;
+        }
+
+        if (drifted == 0) {
+            return 0;
+        }
+        // 가드에 걸려 갱신되지 않은 게시글은 보정 수에서 뺀다
+        return bulk.execute().getModifiedCount();
+    }
+
     public Map<String, Long> getActiveCommentCounts(List<String> postIds) {
         if (postIds == null || postIds.isEmpty()) {
             return Map.of();
@@ -0,0 +1,36 @@
+package org.example.moomyeongso.domain.post.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 상세 조회 단계별 소요 시간(post.detail.stage{stage=...}) 기록.
+ * p50/p95/p99를 함께 발행해 어느 단계가 꼬리 지연을 만드는지 확인한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostDetailStageTimer {
+
+    private static final String METRIC_NAME = "post.detail.stage";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public <T> T record(String stage, Supplier<T> supplier) {
+        return timers.computeIfAbsent(stage, this::register).record(supplier);
+    }
+
+    private Timer register(String stage) {
+        return Timer.builder(METRIC_NAME)
+                .description("게시글 상세 조회 단계별 소요 시간")
+                .tag("stage", stage)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+}
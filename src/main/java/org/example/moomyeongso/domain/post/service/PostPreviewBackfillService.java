@@ -0,0 +1,59 @@
+package org.example.moomyeongso.domain.post.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.moomyeongso.domain.post.entity.Post;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 미리보기 필드(contentPreview, contentLength, thumbnailUrl)가 없는 기존 게시글을 채운다.
+ * 피드 조회는 content를 읽지 않으므로, 채워지기 전까지 기존 글은 빈 미리보기로 노출된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostPreviewBackfillService {
+
+    private static final int BACKFILL_BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillMissingPreviews() {
+        Query query = Query.query(Criteria.where("contentPreview").exists(false))
+                .limit(BACKFILL_BATCH_SIZE);
+
+        long backfilled = 0;
+        List<Post> posts;
+        while (!(posts = mongoTemplate.find(query, Post.class)).isEmpty()) {
+            BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Post.class);
+            for (Post post : posts) {
+                post.refreshPreview();
+                bulk.updateOne(
+                        Query.query(Criteria.where("_id").is(post.getId())),
+                        new Update()
+                                .set("contentPreview", post.getContentPreview())
+                                .set("contentLength", post.getContentLength())
+                                .set("thumbnailUrl", post.getThumbnailUrl())
+                );
+            }
+            bulk.execute();
+            backfilled += posts.size();
+        }
+
+        if (backfilled > 0) {
+            log.info("Post preview backfill completed. backfilled={}", backfilled);
+        }
+    }
+}
@@ -21,16 +21,18 @@ import org.example.moomyeongso.domain.post.entity.PostCommentStatus;
 import org.example.moomyeongso.domain.post.entity.PostStatus;
 import org.example.moomyeongso.domain.post.entity.PostTag;
 import org.example.moomyeongso.domain.post.entity.PostType;
+import org.example.moomyeongso.domain.post.event.PostCreatedEvent;
 import org.example.moomyeongso.domain.post.repository.PostCommentRepository;
+import org.example.moomyeongso.domain.post.repository.PostPreviewFinder;
 import org.example.moomyeongso.domain.post.repository.PostRepository;
 import org.example.moomyeongso.domain.post.repository.RandomPostFinder;
+import org.example.moomyeongso.domain.post.repository.RandomPostIndex;
 import org.example.moomyeongso.domain.postimage.service.PostImageService;
 import org.example.moomyeongso.domain.readhistory.service.ReadHistoryService;
 import org.example.moomyeongso.domain.user.entity.User;
 import org.example.moomyeongso.domain.user.repository.UserRepository;
 import org.example.moomyeongso.domain.user.service.CoinService;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
@@ -45,7 +47,8 @@ import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Service
 @Slf4j
@@ -64,10 +67,15 @@ public class PostService {
     private final CalendarService calendarService;
     private final MongoTemplate mongoTemplate;
     private final RandomPostFinder randomPostFinder;
+    private final RandomPostIndex randomPostIndex;
+    private final PostPreviewFinder postPreviewFinder;
+    private final PostViewCountAggregator postViewCountAggregator;
+    private final PostDetailQueryExecutor postDetailQueryExecutor;
+    private final PostDetailStageTimer postDetailStageTimer;
     private final PostCommentRepository postCommentRepository;
     private final UserRepository userRepository;
-    private final PostCommentService postCommentService;
     private final PostImageService postImageService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public PostPreviewCursorListResponse getPostPreviews(String userId) {
         return getPostPreviews(userId, null, DEFAULT_POST_PREVIEW_LIMIT);
@@ -88,11 +96,8 @@ public class PostService {
         List<Post> fetchedPosts = fetchPostPreviewPage(type, userId, normalizeCursor(cursor), limit);
         boolean hasNext = fetchedPosts.size() > limit;
         List<Post> postEntities = hasNext ? fetchedPosts.subList(0, limit) : fetchedPosts;
-        Map<String, Long> commentCounts = postCommentService.getActiveCommentCounts(
-                postEntities.stream().map(Post::getId).toList()
-        );
         List<PostPreviewResponseDto> posts = postEntities.stream()
-                .map(post -> PostPreviewResponseDto.from(post, commentCounts.getOrDefault(post.getId(), 0L)))
+                .map(PostPreviewResponseDto::from)
                 .toList();
         return PostPreviewCursorListResponse.of(posts, coin, hasNext ? resolveNextCursor(posts) : null);
     }
@@ -104,16 +109,7 @@ public class PostService {
     }
 
     private List<Post> fetchPostPreviewPage(PostType type, String userId, String cursor, int limit) {
-        Pageable pageable = PageRequest.of(0, limit + 1);
-        if (type == null) {
-            return cursor == null
-                    ? postRepository.findAllByStatusAndUserIdNotOrderByIdDesc(PostStatus.ACTIVE, userId, pageable)
-                    : postRepository.findAllByStatusAndUserIdNotAndIdLessThanOrderByIdDesc(PostStatus.ACTIVE, userId, cursor, pageable);
-        }
-
-        return cursor == null
-                ? postRepository.findAllByTypeAndStatusAndUserIdNotOrderByIdDesc(type, PostStatus.ACTIVE, userId, pageable)
-                : postRepository.findAllByTypeAndStatusAndUserIdNotAndIdLessThanOrderByIdDesc(type, PostStatus.ACTIVE, userId, cursor, pageable);
+        return postPreviewFinder.findPreviewPageExcludingUser(type, PostStatus.ACTIVE, userId, cursor, limit + 1);
     }
 
     private String normalizeCursor(String cursor) {
@@ -160,6 +156,7 @@ public class PostService {
 
         post.attachImages(postImageService.attachImages(userId, post.getId(), imageIds));
         postRepository.save(post);
+        eventPublisher.publishEvent(new PostCreatedEvent(post.getId(), userId, post.getTags()));
 
         boolean isFirstToday;
         try {
@@ -212,37 +209,58 @@ public class PostService {
         return (before == null);
     }
 
+    /**
+     * 상세 조회 파이프라인.
+     * 댓글 조회는 게시글 상태와 무관하므로 게시글 조회와 동시에 시작하고,
+     * 코인 차감 시 반환된 잔액을 그대로 사용해 별도의 잔액 조회를 생략한다.
+     */
     @Transactional("mongoTransactionManager")
     public PostDetailResponseDto getPostById(String postId, String userId) {
+        CompletableFuture<List<PostCommentResponseDto>> commentsFuture = postDetailQueryExecutor.supplyAsync(
+                () -> postDetailStageTimer.record("comments", () -> getPostComments(postId, userId))
+        );
 
-        Post post = getActivePost(postId);
-
+        Post post = postDetailStageTimer.record("post", () -> getActivePost(postId));
         boolean isOwner = userId.equals(post.getUserId());
+        boolean firstRead = postDetailStageTimer.record("readHistory", () -> readHistoryService.record(userId, postId));
 
-        boolean firstRead = readHistoryService.record(userId, postId);
+        int finalCoin = (firstRead && !isOwner)
+                ? postDetailStageTimer.record("charge", () -> chargeForRead(userId, postId))
+                : postDetailStageTimer.record("coin", () -> coinService.getCoin(userId));
 
-        if (firstRead && !isOwner) {
-            boolean chargedCoin = coinService.chargeIfEnough(userId, 1);
-            if (!chargedCoin) {
-                log.warn("User {} does not have enough coins to read post {}", userId, postId);
-                throw new CustomException(ErrorCode.NOT_ENOUGH_COIN);
-            }
-        }
-
-//        if (firstRead) {
-//            incrementViews(postId);
-//        }
-        // 조회수 무조건 증가로 변경 + 증가된 값을 같은 응답에 반영
-        Post updatedPost = incrementViewsAndGetPost(postId);
+        // 조회수는 버퍼에 누적 후 주기적으로 반영하고, 응답에는 반영 대기분까지 합산
+        long views = postViewCountAggregator.increment(postId, post.getViews());
 
-        int finalCoin = coinService.getCoin(userId);
-        List<PostCommentResponseDto> comments = getPostComments(postId, userId);
+        List<PostCommentResponseDto> comments = postDetailStageTimer.record(
+                "commentsWait",
+                () -> awaitComments(commentsFuture)
+        );
+        return PostDetailResponseDto.from(post, views, finalCoin, comments);
+    }
 
-        return PostDetailResponseDto.from(updatedPost, finalCoin, comments);
+    private int chargeForRead(String userId, String postId) {
+        return coinService.chargeAndGetBalance(userId, 1)
+                .orElseThrow(() -> {
+                    log.warn("User {} does not have enough coins to read post {}", userId, postId);
+                    return new CustomException(ErrorCode.NOT_ENOUGH_COIN);
+                });
+    }
 
+    private List<PostCommentResponseDto> awaitComments(CompletableFuture<List<PostCommentResponseDto>> commentsFuture) {
+        try {
+            return commentsFuture.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
     }
 
-    @Transactional("mongoTransactionManager")
+    /**
+     * 댓글 저장과 commentCount 증가는 각각 단일 문서 갱신이다.
+     * 두 쓰기 사이 장애로 생긴 어긋남은 CommentCountReconcileScheduler가 보정한다.
+     */
     public PostCommentCreateResponseDto createComment(String postId, PostCommentCreateRequestDto request, String userId) {
         Post post = getActivePost(postId);
         User user = userRepository.findById(userId)
@@ -266,11 +284,10 @@ public class PostService {
             throw new CustomException(ErrorCode.ALREADY_COMMENTED);
         }
 
-        syncCommentCount(post.getId());
+        adjustCommentCount(post.getId(), 1);
         return PostCommentCreateResponseDto.from(comment);
     }
 
-    @Transactional("mongoTransactionManager")
     public void deleteComment(String postId, String commentId, String userId) {
         getActivePost(postId);
 
@@ -281,37 +298,65 @@ public class PostService {
             throw new CustomException(ErrorCode.ACCESS_DENIED);
         }
 
-        comment.markDeleted();
-        postCommentRepository.save(comment);
-        syncCommentCount(postId);
+        // ACTIVE -> DELETED 전이에 성공한 요청만 카운터를 감소시켜 중복 삭제 요청에도 한 번만 반영
+        if (!markCommentDeleted(comment.getId())) {
+            throw new CustomException(ErrorCode.COMMENT_NOT_FOUND);
+        }
+        adjustCommentCount(postId, -1);
     }
 
-    public List<PostPreviewResponseDto> getMyPosts(String userId, PostType type) {
-        List<Post> posts = (type == null)
-                ? postRepository.findAllByUserIdAndStatusOrderByCreatedAtDesc(userId, PostStatus.ACTIVE)
-                : postRepository.findAllByUserIdAndTypeAndStatusOrderByCreatedAtDesc(userId, type, PostStatus.ACTIVE);
+    public PostPreviewCursorListResponse getMyPosts(String userId, PostType type) {
+        return getMyPosts(userId, type, null, DEFAULT_POST_PREVIEW_LIMIT);
+    }
+
+    public PostPreviewCursorListResponse getMyPosts(String userId, PostType type, String cursor, int limit) {
+        validatePostPreviewLimit(limit);
 
-        Map<String, Long> commentCounts = postCommentService.getActiveCommentCounts(
-                posts.stream().map(Post::getId).toList()
+        int coin = coinService.getCoin(userId);
+        List<Post> fetchedPosts = postPreviewFinder.findPreviewPageByUser(
+                userId,
+                PostStatus.ACTIVE,
+                type,
+                normalizeCursor(cursor),
+                limit + 1
         );
-        return posts.stream()
-                .map(post -> PostPreviewResponseDto.from(post, commentCounts.getOrDefault(post.getId(), 0L)))
+        boolean hasNext = fetchedPosts.size() > limit;
+        List<Post> postEntities = hasNext ? fetchedPosts.subList(0, limit) : fetchedPosts;
+        List<PostPreviewResponseDto> posts = postEntities.stream()
+                .map(PostPreviewResponseDto::from)
                 .toList();
+        return PostPreviewCursorListResponse.of(posts, coin, hasNext ? resolveNextCursor(posts) : null);
     }
 
     public PostPreviewListResponse getRandomPostPreviews(List<String> tags, String userId) {
         int coin = coinService.getCoin(userId);
         List<Post> postEntities = fetchRandomPostEntities(tags, userId);
-        Map<String, Long> commentCounts = postCommentService.getActiveCommentCounts(
-                postEntities.stream().map(Post::getId).toList()
-        );
         List<PostPreviewResponseDto> posts = postEntities.stream()
-                .map(post -> PostPreviewResponseDto.from(post, commentCounts.getOrDefault(post.getId(), 0L)))
+                .map(PostPreviewResponseDto::from)
                 .toList();
         return PostPreviewListResponse.of(posts, coin);
     }
 
     private List<Post> fetchRandomPostEntities(List<String> tags, String userId) {
+        if (!randomPostIndex.isReady()) {
+            return fetchRandomPostEntitiesFromMongo(tags, userId);
+        }
+
+        // 인덱스에서 후보 id만 뽑고, 선택된 게시글만 Mongo에서 읽는다. 이미 열람한 글은 후순위로 둔다
+        List<String> normalizedTags = normalizeRandomTags(tags);
+        RandomPostIndex.Sampler sampler = randomPostIndex.newSampler(
+                userId,
+                readHistoryService.getReadPostFilter(userId)
+        );
+        List<String> postIds = new ArrayList<>(DEFAULT_RANDOM_RECOMMENDATION_COUNT);
+        if (!normalizedTags.isEmpty()) {
+            postIds.addAll(sampler.pickTagged(normalizedTags, TAGGED_RANDOM_RECOMMENDATION_COUNT));
+        }
+        postIds.addAll(sampler.pick(DEFAULT_RANDOM_RECOMMENDATION_COUNT - postIds.size()));
+        return postPreviewFinder.findPreviewsByIds(postIds, PostStatus.ACTIVE);
+    }
+
+    private List<Post> fetchRandomPostEntitiesFromMongo(List<String> tags, String userId) {
         List<String> normalizedTags = normalizeRandomTags(tags);
         if (normalizedTags.isEmpty()) {
             return randomPostFinder.findRandomByStatusExcludingUser(
@@ -348,31 +393,23 @@ public class PostService {
                 .toList();
     }
 
-    private Post incrementViewsAndGetPost(String postId) {
+    private boolean markCommentDeleted(String commentId) {
         Query query = Query.query(
-                Criteria.where("_id").is(postId)
-                        .and("status").is(PostStatus.ACTIVE)
+                Criteria.where("_id").is(commentId)
+                        .and("status").is(PostCommentStatus.ACTIVE)
         );
-        Post updatedPost = mongoTemplate.findAndModify(
-                query,
-                new Update().inc("views", 1),
-                FindAndModifyOptions.options().returnNew(true),
-                Post.class
-        );
-
-        if (updatedPost == null) {
-            throw new CustomException(ErrorCode.POST_NOT_FOUND);
-        }
-        return updatedPost;
+        Update update = new Update()
+                .set("status", PostCommentStatus.DELETED)
+                .set("deletedAt", Instant.now());
+        return mongoTemplate.updateFirst(query, update, PostComment.class).getModifiedCount() == 1;
     }
 
-    private void syncCommentCount(String postId) {
-        long activeCommentCount = postCommentRepository.countByPostIdAndStatus(postId, PostCommentStatus.ACTIVE);
-        mongoTemplate.updateFirst(
-                Query.query(Criteria.where("_id").is(postId)),
-                new Update().set("commentCount", activeCommentCount),
-                Post.class
-        );
+    private void adjustCommentCount(String postId, long delta) {
+        Criteria criteria = Criteria.where("_id").is(postId);
+        if (delta < 0) {
+            criteria.and("commentCount").gte(-delta);
+        }
+        mongoTemplate.updateFirst(Query.query(criteria), new Update().inc("commentCount", delta), Post.class);
     }
 
     private Post getActivePost(String postId) {
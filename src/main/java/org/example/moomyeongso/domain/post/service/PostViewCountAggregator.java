@@ -0,0 +1,104 @@
+package org.example.moomyeongso.domain.post.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.moomyeongso.domain.post.entity.Post;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 조회수 write-behind 버퍼.
+ * 조회마다 posts 문서를 갱신하지 않고 노드 메모리에 누적한 뒤 주기적으로 bulkWrite로 반영한다.
+ * 응답에는 저장된 조회수 + 아직 반영되지 않은 누적분을 합산해 내려준다.
+ *
+ * 누적분은 게시글별 ConcurrentHashMap 항목에 merge로 더하고 flush는 remove로 통째로 가져간다.
+ * 두 연산이 키 단위로 원자적이라 flush 도중 들어온 조회가 떼어낸 카운터에 더해져 사라지는 일이 없다.
+ * flush 전에 읽은 문서와 flush 후의 누적분을 합치면 값이 잠시 줄어들 수 있어, 이 노드가 게시글별로 마지막에
+ * 내려준 값을 하한으로 둔다. 따라서 조회수는 노드 안에서만 단조 증가하고 노드 간에는 보장하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostViewCountAggregator {
+
+    private static final int FLUSH_BATCH_SIZE = 1000;
+
+    private final MongoTemplate mongoTemplate;
+    private final Map<String, Long> pendingViews = new ConcurrentHashMap<>();
+    // 게시글별로 이 노드가 마지막에 내려준 조회수. 직전 flush 주기에 조회가 없던 게시글은 flush 때 비운다
+    private final Map<String, Long> servedViews = new ConcurrentHashMap<>();
+
+    /**
+     * 조회수를 1 증가시키고 응답에 내려줄 조회수를 반환한다.
+     * storedViews는 같은 요청에서 읽은 문서의 views.
+     */
+    public long increment(String postId, long storedViews) {
+        long pending = pendingViews.merge(postId, 1L, Long::sum);
+        return servedViews.merge(postId, storedViews + pending, Math::max);
+    }
+
+    public synchronized void flush() {
+        Set<String> flushed = new HashSet<>();
+        List<Map.Entry<String, Long>> batch = new ArrayList<>();
+        for (String postId : new ArrayList<>(pendingViews.keySet())) {
+            Long delta = pendingViews.remove(postId);
+            if (delta == null) {
+                continue;
+            }
+
+            flushed.add(postId);
+            batch.add(Map.entry(postId, delta));
+            if (batch.size() >= FLUSH_BATCH_SIZE) {
+                writeBatch(batch);
+                batch = new ArrayList<>();
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            writeBatch(batch);
+        }
+        servedViews.keySet().retainAll(flushed);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void writeBatch(List<Map.Entry<String, Long>> batch) {
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Post.class);
+        batch.forEach(entry -> bulk.updateOne(
+                Query.query(Criteria.where("_id").is(entry.getKey())),
+                new Update().inc("views", entry.getValue())
+        ));
+
+        try {
+            bulk.execute();
+        } catch (BulkOperationException ex) {
+            // UNORDERED라 나머지 갱신은 이미 반영됐다. 실패한 항목만 다시 쌓아야 이중 합산이 없다
+            log.warn("Post view count flush partially failed. Re-queueing {} of {} posts",
+                    ex.getErrors().size(), batch.size(), ex);
+            ex.getErrors().forEach(error -> requeue(batch.get(error.getIndex())));
+        } catch (RuntimeException ex) {
+            log.warn("Post view count flush failed. Re-queueing {} posts", batch.size(), ex);
+            batch.forEach(this::requeue);
+        }
+    }
+
+    private void requeue(Map.Entry<String, Long> entry) {
+        pendingViews.merge(entry.getKey(), entry.getValue(), Long::sum);
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.moomyeongso.domain.postimage.controller;
+
+import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.example.moomyeongso.domain.postimage.storage.LocalImageStorageService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬 저장소에 저장된 이미지를 서빙한다. 키마다 내용이 바뀌지 않으므로 1년 immutable 캐시와 ETag를 붙인다.
+ * Range 요청이 없으면 Tomcat sendfile로 커널에서 소켓으로 바로 복사하고,
+ * Range 요청이나 sendfile을 지원하지 않는 커넥터에서는 Resource 응답으로 넘겨 Spring이 부분 응답(206)을 만든다.
+ */
+@Hidden
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "local")
+public class LocalImageController {
+
+    private static final String SERVE_PATH = "/images/";
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+
+    private final LocalImageStorageService localImageStorageService;
+
+    @GetMapping("/images/**")
+    public ResponseEntity<Resource> getImage(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            ServletWebRequest webRequest
+    ) throws IOException {
+        String key = request.getServletPath().substring(SERVE_PATH.length());
+        Path file = localImageStorageService.resolve(key);
+        if (key.isEmpty() || !Files.isRegularFile(file)) {
+            return ResponseEntity.notFound().build();
+        }
+
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        long size = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        String etag = "\"" + Long.toHexString(size) + "-" + Long.toHexString(lastModified) + "\"";
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL.getHeaderValue());
+        if (webRequest.checkNotModified(etag, lastModified)) {
+            return null;
+        }
+
+        MediaType contentType = MediaTypeFactory.getMediaType(key).orElse(MediaType.APPLICATION_OCTET_STREAM);
+        if (request.getHeader(HttpHeaders.RANGE) == null && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            response.setContentType(contentType.toString());
+            response.setContentLengthLong(size);
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, size);
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .body(new FileSystemResource(file));
+    }
+}
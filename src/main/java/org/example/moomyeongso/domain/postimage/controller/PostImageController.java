@@ -6,13 +6,18 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.moomyeongso.common.response.ApiResponse;
 import org.example.moomyeongso.domain.auth.core.SecurityUtils;
+import org.example.moomyeongso.domain.post.dto.request.DirectImagePostCreateRequestDto;
 import org.example.moomyeongso.domain.post.dto.request.ImagePostCreateRequestDto;
 import org.example.moomyeongso.domain.post.dto.response.PostCreateResponseDto;
 import org.example.moomyeongso.domain.post.service.ImagePostService;
+import org.example.moomyeongso.domain.postimage.dto.request.PostImageUploadUrlRequestDto;
+import org.example.moomyeongso.domain.postimage.dto.response.PostImageUploadUrlResponseDto;
+import org.example.moomyeongso.domain.postimage.service.PostImageService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
@@ -25,6 +30,7 @@ import java.util.List;
 public class PostImageController {
 
     private final ImagePostService imagePostService;
+    private final PostImageService postImageService;
 
     @Operation(
             summary = "이미지 게시글 작성",
@@ -42,4 +48,33 @@ public class PostImageController {
         PostCreateResponseDto response = imagePostService.createImagePost(request, images, subject);
         return ApiResponse.success(HttpStatus.CREATED, response);
     }
+
+    @Operation(
+            summary = "이미지 직접 업로드 URL 발급",
+            description = "업로드할 이미지의 contentType, size, sha256(base64)을 전달하면 이미지마다 presigned PUT URL을 발급합니다. "
+                    + "응답의 uploadHeaders를 그대로 포함해 uploadUrl로 업로드한 뒤, "
+                    + "imageId 목록으로 직접 업로드 게시글 작성 API를 호출합니다."
+    )
+    @PostMapping("/post-images/upload-urls")
+    public ResponseEntity<ApiResponse<PostImageUploadUrlResponseDto>> createUploadUrls(
+            @RequestBody @Valid PostImageUploadUrlRequestDto request
+    ) {
+        String subject = SecurityUtils.getCurrentSubject();
+        PostImageUploadUrlResponseDto response = postImageService.reserveDirectUploads(request.files(), subject);
+        return ApiResponse.success(HttpStatus.CREATED, response);
+    }
+
+    @Operation(
+            summary = "직접 업로드 이미지 게시글 작성",
+            description = "발급받은 URL로 업로드를 마친 imageId 목록으로 게시글을 작성합니다. "
+                    + "업로드가 끝나지 않은 이미지가 있으면 1032 에러를 반환합니다."
+    )
+    @PostMapping("/post-images/direct")
+    public ResponseEntity<ApiResponse<PostCreateResponseDto>> createImagePostFromDirectUploads(
+            @RequestBody @Valid DirectImagePostCreateRequestDto request
+    ) {
+        String subject = SecurityUtils.getCurrentSubject();
+        PostCreateResponseDto response = imagePostService.createImagePostFromDirectUploads(request, subject);
+        return ApiResponse.success(HttpStatus.CREATED, response);
+    }
 }
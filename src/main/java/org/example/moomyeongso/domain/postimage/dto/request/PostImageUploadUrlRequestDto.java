@@ -0,0 +1,27 @@
+package org.example.moomyeongso.domain.postimage.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+
+import java.util.List;
+
+public record PostImageUploadUrlRequestDto(
+        @NotEmpty
+        @Valid
+        List<FileSpec> files
+) {
+    public record FileSpec(
+            @NotBlank
+            String contentType,
+            @Positive
+            long size,
+            // 파일 내용의 SHA-256(base64). 업로드 서명에 포함된다
+            @NotBlank
+            @Pattern(regexp = "^[A-Za-z0-9+/]{43}=$")
+            String sha256
+    ) {
+    }
+}
@@ -0,0 +1,11 @@
+package org.example.moomyeongso.domain.postimage.dto.response;
+
+import java.util.List;
+
+public record PostImageUploadUrlResponseDto(
+        List<ReservedPostImageResponseDto> uploads
+) {
+    public static PostImageUploadUrlResponseDto of(List<ReservedPostImageResponseDto> uploads) {
+        return new PostImageUploadUrlResponseDto(uploads);
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.moomyeongso.domain.postimage.dto.response;
+
+import org.example.moomyeongso.domain.postimage.entity.PostImage;
+import org.example.moomyeongso.domain.postimage.storage.PresignedUpload;
+
+import java.time.Instant;
+import java.util.Map;
+
+public record ReservedPostImageResponseDto(
+        String imageId,
+        String uploadUrl,
+        Map<String, String> uploadHeaders,
+        Instant expiresAt,
+        String imageUrl
+) {
+    public static ReservedPostImageResponseDto of(PostImage image, PresignedUpload upload) {
+        return new ReservedPostImageResponseDto(
+                image.getId(),
+                upload.uploadUrl(),
+                upload.headers(),
+                upload.expiresAt(),
+                image.getImageUrl()
+        );
+    }
+}
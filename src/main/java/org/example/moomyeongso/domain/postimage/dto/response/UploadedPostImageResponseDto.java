@@ -1,11 +1,17 @@
 package org.example.moomyeongso.domain.postimage.dto.response;
 
+import org.example.moomyeongso.domain.post.dto.response.PostImageRenditionResponseDto;
 import org.example.moomyeongso.domain.postimage.entity.PostImage;
+import org.example.moomyeongso.domain.postimage.entity.PostImageProcessingStatus;
+
+import java.util.List;
 
 public record UploadedPostImageResponseDto(
         String imageId,
         String imageUrl,
         String thumbnailUrl,
+        List<PostImageRenditionResponseDto> renditions,
+        PostImageProcessingStatus processingStatus,
         String contentType,
         long size,
         int width,
@@ -16,6 +22,8 @@ public record UploadedPostImageResponseDto(
                 image.getId(),
                 image.getImageUrl(),
                 image.getThumbnailUrl(),
+                PostImageRenditionResponseDto.listOf(image.getRenditions()),
+                image.resolveProcessingStatus(),
                 image.getContentType(),
                 image.getSize(),
                 image.getWidth(),
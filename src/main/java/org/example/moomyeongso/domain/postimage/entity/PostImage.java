@@ -9,6 +9,7 @@ import lombok.NoArgsConstructor;
 import org.example.moomyeongso.common.exception.CustomException;
 import org.example.moomyeongso.common.exception.ErrorCode;
 import org.example.moomyeongso.domain.post.entity.PostImageAttachment;
+import org.example.moomyeongso.domain.post.entity.PostImageRendition;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.index.CompoundIndex;
@@ -17,12 +18,17 @@ import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
 @Document(collection = "postImages")
 @CompoundIndexes({
         @CompoundIndex(name = "user_status_created_idx", def = "{'userId': 1, 'status': 1, 'createdAt': 1}"),
         @CompoundIndex(name = "status_delete_after_idx", def = "{'status': 1, 'deleteAfter': 1}"),
-        @CompoundIndex(name = "post_status_idx", def = "{'postId': 1, 'status': 1}")
+        @CompoundIndex(name = "post_status_idx", def = "{'postId': 1, 'status': 1}"),
+        @CompoundIndex(name = "processing_status_created_idx", def = "{'processingStatus': 1, 'createdAt': 1}")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -39,6 +45,10 @@ public class PostImage {
 
     private String postId;
 
+    // 같은 내용의 업로드가 공유하는 PostImageBlob id(SHA-256). null이면 객체를 단독으로 소유한 예전 이미지
+    @Indexed
+    private String contentHash;
+
     private String storageKey;
 
     private String thumbnailStorageKey;
@@ -47,6 +57,9 @@ public class PostImage {
 
     private String thumbnailUrl;
 
+    @Builder.Default
+    private List<PostImageRendition> renditions = new ArrayList<>();
+
     private String contentType;
 
     private long size;
@@ -58,6 +71,12 @@ public class PostImage {
     @Builder.Default
     private PostImageStatus status = PostImageStatus.TEMP;
 
+    // null이면 렌디션 생성이 업로드 요청 안에서 끝난 예전 이미지
+    private PostImageProcessingStatus processingStatus;
+
+    // 직접 업로드 확정을 요청과 스캔이 동시에 진행하지 않도록 잡는 임대
+    private Instant uploadLeaseUntil;
+
     @CreatedDate
     private Instant createdAt;
 
@@ -82,13 +101,49 @@ public class PostImage {
         this.deleteAfter = deleteAfter;
     }
 
+    /**
+     * 직접 업로드한 원본을 확인한 뒤 내용이 같은 blob을 가리키도록 바꾸고 확정 임대를 푼다.
+     */
+    public void completeDirectUpload(PostImageBlob blob) {
+        this.contentHash = blob.getContentHash();
+        this.storageKey = blob.getStorageKey();
+        this.thumbnailStorageKey = blob.getThumbnailStorageKey();
+        this.imageUrl = blob.getImageUrl();
+        this.thumbnailUrl = blob.getThumbnailUrl();
+        this.renditions = new ArrayList<>(blob.getRenditions());
+        this.contentType = blob.getContentType();
+        this.size = blob.getSize();
+        this.width = blob.getWidth();
+        this.height = blob.getHeight();
+        this.processingStatus = blob.getProcessingStatus();
+        this.uploadLeaseUntil = null;
+    }
+
+    public PostImageProcessingStatus resolveProcessingStatus() {
+        return processingStatus == null ? PostImageProcessingStatus.READY : processingStatus;
+    }
+
     public PostImageAttachment toAttachment(int sortOrder) {
         return PostImageAttachment.builder()
                 .imageId(id)
                 .imageUrl(imageUrl)
                 .thumbnailUrl(thumbnailUrl)
+                .renditions(renditions == null ? new ArrayList<>() : new ArrayList<>(renditions))
+                .processingStatus(resolveProcessingStatus())
                 .sortOrder(sortOrder)
                 .build();
     }
+
+    /** 원본, 대표 썸네일, 렌디션의 스토리지 키(중복 제거) */
+    public List<String> storageKeys() {
+        Set<String> keys = new LinkedHashSet<>();
+        keys.add(storageKey);
+        keys.add(thumbnailStorageKey);
+        if (renditions != null) {
+            renditions.forEach(rendition -> keys.add(rendition.getStorageKey()));
+        }
+        keys.remove(null);
+        return new ArrayList<>(keys);
+    }
 }
 
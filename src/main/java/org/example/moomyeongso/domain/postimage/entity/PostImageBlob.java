@@ -0,0 +1,80 @@
+package org.example.moomyeongso.domain.postimage.entity;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.moomyeongso.domain.post.entity.PostImageRendition;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 내용(SHA-256)이 같은 업로드가 함께 쓰는 스토리지 객체. id가 내용 해시이며,
+ * 이 객체를 가리키는 PostImage 수를 refCount로 세어 마지막 참조가 사라질 때만 원본과 렌디션을 지운다.
+ * refCount가 0 이하인 문서는 스토리지 객체를 다 지운 뒤에야 삭제되므로, 남아 있다면 정리가 끝나지 않은 것이다.
+ */
+@Document(collection = "postImageBlobs")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class PostImageBlob {
+
+    @Id
+    private String contentHash;
+
+    private String storageKey;
+
+    private String imageUrl;
+
+    // 렌디션 키는 thumbnailPrefix/baseKey-{size}.{ext}
+    private String baseKey;
+
+    private String thumbnailStorageKey;
+
+    private String thumbnailUrl;
+
+    @Builder.Default
+    private List<PostImageRendition> renditions = new ArrayList<>();
+
+    private String contentType;
+
+    private long size;
+
+    private int width;
+
+    private int height;
+
+    @Builder.Default
+    private PostImageProcessingStatus processingStatus = PostImageProcessingStatus.PROCESSING;
+
+    @Builder.Default
+    private long refCount = 1;
+
+    // 참조를 줄였지만 아직 문서가 지워지지 않은 이미지 id. 정리를 다시 시도해도 같은 이미지로 두 번 줄이지 않는다
+    @Builder.Default
+    private List<String> pendingReleases = new ArrayList<>();
+
+    @CreatedDate
+    private Instant createdAt;
+
+    /** 원본, 대표 썸네일, 렌디션의 스토리지 키(중복 제거) */
+    public List<String> storageKeys() {
+        Set<String> keys = new LinkedHashSet<>();
+        keys.add(storageKey);
+        keys.add(thumbnailStorageKey);
+        if (renditions != null) {
+            renditions.forEach(rendition -> keys.add(rendition.getStorageKey()));
+        }
+        keys.remove(null);
+        return new ArrayList<>(keys);
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.moomyeongso.domain.postimage.entity;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * 원본 업로드 후 렌디션 생성을 기다리는 작업. 처리가 끝나면 삭제되고,
+ * 재시도 한도를 넘긴 작업만 FAILED로 남아 원인을 확인할 수 있다.
+ */
+@Document(collection = "postImageJobs")
+@CompoundIndexes({
+        @CompoundIndex(name = "status_available_at_idx", def = "{'status': 1, 'availableAt': 1}"),
+        @CompoundIndex(name = "status_lease_until_idx", def = "{'status': 1, 'leaseUntil': 1}")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class PostImageJob {
+
+    @Id
+    private String id;
+
+    // 처리 대상 PostImageBlob id
+    private String contentHash;
+
+    private String originalKey;
+
+    // 렌디션 키는 thumbnailPrefix/baseKey-{size}.{ext}
+    private String baseKey;
+
+    @Builder.Default
+    private PostImageJobStatus status = PostImageJobStatus.PENDING;
+
+    private int attempts;
+
+    private Instant availableAt;
+
+    private Instant leaseUntil;
+
+    private String lastError;
+
+    @CreatedDate
+    private Instant createdAt;
+}
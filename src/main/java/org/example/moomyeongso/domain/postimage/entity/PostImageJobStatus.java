@@ -0,0 +1,7 @@
+package org.example.moomyeongso.domain.postimage.entity;
+
+public enum PostImageJobStatus {
+    PENDING,
+    RUNNING,
+    FAILED
+}
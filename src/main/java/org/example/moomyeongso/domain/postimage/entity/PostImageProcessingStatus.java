@@ -0,0 +1,12 @@
+package org.example.moomyeongso.domain.postimage.entity;
+
+/**
+ * 렌디션 생성 상태. 값이 없는 예전 이미지는 업로드 시점에 처리가 끝난 것으로 본다.
+ */
+public enum PostImageProcessingStatus {
+    // 발급한 presigned URL로 클라이언트가 원본을 올리는 중. 확정(finalize) 전에는 첨부할 수 없다
+    UPLOADING,
+    PROCESSING,
+    READY,
+    FAILED
+}
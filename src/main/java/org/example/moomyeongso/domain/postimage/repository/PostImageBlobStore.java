@@ -0,0 +1,156 @@
+package org.example.moomyeongso.domain.postimage.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.moomyeongso.domain.post.entity.PostImageRendition;
+import org.example.moomyeongso.domain.postimage.entity.PostImageBlob;
+import org.example.moomyeongso.domain.postimage.entity.PostImageProcessingStatus;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 내용 해시 단위 참조 카운트. 모든 변경은 단일 문서 원자 연산이라 트랜잭션 없이 여러 요청이 동시에 호출해도 된다.
+ * refCount가 0이 된 문서는 지워지기 전까지 새 참조를 받지 않으므로, 정리 중인 객체를 다시 가리키는 일이 없다.
+ * 문서는 스토리지 객체를 모두 지운 뒤 remove로 지우고, 그 전에 실패하면 findUnreferenced로 다시 찾아 정리한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostImageBlobStore {
+
+    private final MongoTemplate mongoTemplate;
+
+    public PostImageBlob find(String contentHash) {
+        return mongoTemplate.findById(contentHash, PostImageBlob.class);
+    }
+
+    /**
+     * 살아 있는 blob이 있으면 참조를 하나 늘리고 반환한다. 없으면 null.
+     */
+    public PostImageBlob acquire(String contentHash) {
+        return mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(contentHash).and("refCount").gt(0)),
+                new Update().inc("refCount", 1),
+                FindAndModifyOptions.options().returnNew(true),
+                PostImageBlob.class
+        );
+    }
+
+    /**
+     * 새로 올린 객체를 참조 1로 등록한다. 같은 해시가 먼저 등록돼 있으면 false.
+     */
+    public boolean create(PostImageBlob blob) {
+        try {
+            mongoTemplate.insert(blob);
+            return true;
+        } catch (DuplicateKeyException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * 저장하지 못한 업로드의 참조를 count만큼 되돌린다. 마지막 참조였다면 blob을 반환하고,
+     * 호출한 쪽이 스토리지 객체를 지운 뒤 remove를 호출한다.
+     */
+    public PostImageBlob release(String contentHash, long count) {
+        PostImageBlob blob = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(contentHash).and("refCount").gt(0)),
+                new Update().inc("refCount", -count),
+                FindAndModifyOptions.options().returnNew(true),
+                PostImageBlob.class
+        );
+        return blob == null || blob.getRefCount() > 0 ? null : blob;
+    }
+
+    /**
+     * 이미지 문서를 지우기 전에 그 이미지들의 참조를 줄인다. 이미 줄인 이미지는 pendingReleases로 걸러
+     * 이전 정리가 중간에 실패했더라도 두 번 줄이지 않는다. 마지막 참조였다면 blob을 반환한다.
+     * 이미지 문서를 지운 뒤 completeRelease로 표시를 지운다.
+     */
+    public PostImageBlob releaseImages(String contentHash, Collection<String> imageIds) {
+        while (true) {
+            PostImageBlob current = find(contentHash);
+            if (current == null) {
+                return null;
+            }
+            List<String> applied = current.getPendingReleases() == null ? List.of() : current.getPendingReleases();
+            List<String> remaining = imageIds.stream()
+                    .filter(imageId -> !applied.contains(imageId))
+                    .toList();
+            if (remaining.isEmpty()) {
+                return current.getRefCount() > 0 ? null : current;
+            }
+
+            PostImageBlob released = mongoTemplate.findAndModify(
+                    Query.query(Criteria.where("_id").is(contentHash).and("pendingReleases").nin(remaining)),
+                    new Update()
+                            .inc("refCount", -remaining.size())
+                            .addToSet("pendingReleases").each(remaining.toArray()),
+                    FindAndModifyOptions.options().returnNew(true),
+                    PostImageBlob.class
+            );
+            if (released != null) {
+                return released.getRefCount() > 0 ? null : released;
+            }
+            // 다른 정리 작업이 일부를 먼저 줄인 경우 다시 읽는다
+        }
+    }
+
+    public void completeRelease(String contentHash, Collection<String> imageIds) {
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(contentHash)),
+                new Update().pullAll("pendingReleases", imageIds.toArray()),
+                PostImageBlob.class
+        );
+    }
+
+    /**
+     * 스토리지 객체를 모두 지운 참조 없는 blob 문서를 지운다.
+     */
+    public void remove(String contentHash) {
+        mongoTemplate.remove(
+                Query.query(Criteria.where("_id").is(contentHash).and("refCount").lte(0)),
+                PostImageBlob.class
+        );
+    }
+
+    public List<PostImageBlob> findUnreferenced(int limit) {
+        return mongoTemplate.find(
+                Query.query(Criteria.where("refCount").lte(0)).limit(limit),
+                PostImageBlob.class
+        );
+    }
+
+    public PostImageBlob markReady(String contentHash, List<PostImageRendition> renditions, PostImageRendition thumbnail) {
+        Update update = new Update()
+                .set("renditions", renditions)
+                .set("thumbnailStorageKey", thumbnail.getStorageKey())
+                .set("thumbnailUrl", thumbnail.getUrl())
+                .set("processingStatus", PostImageProcessingStatus.READY);
+        // 처리 중에 참조가 모두 사라졌다면 반영하지 않고 null을 돌려줘 워커가 렌디션을 지우게 한다
+        return mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(contentHash).and("refCount").gt(0)),
+                update,
+                FindAndModifyOptions.options().returnNew(true),
+                PostImageBlob.class
+        );
+    }
+
+    /**
+     * blob을 FAILED로 표시한다. 렌디션이 이미 반영된(READY) blob은 그대로 두고 false를 반환한다.
+     */
+    public boolean markFailed(String contentHash) {
+        return mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(contentHash)
+                        .and("processingStatus").ne(PostImageProcessingStatus.READY)),
+                new Update().set("processingStatus", PostImageProcessingStatus.FAILED),
+                PostImageBlob.class
+        ).getMatchedCount() > 0;
+    }
+}
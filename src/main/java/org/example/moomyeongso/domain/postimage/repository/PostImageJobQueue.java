@@ -0,0 +1,83 @@
+package org.example.moomyeongso.domain.postimage.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.moomyeongso.domain.postimage.entity.PostImageJob;
+import org.example.moomyeongso.domain.postimage.entity.PostImageJobStatus;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Mongo 컬렉션 기반 작업 큐. 작업은 findAndModify로 하나씩 임대(lease)해 가져가므로 여러 노드가 동시에 꺼내도 중복되지 않고,
+ * 처리 중 프로세스가 죽으면 임대 만료 후 다른 워커(또는 재시작한 자신)가 다시 가져간다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostImageJobQueue {
+
+    private static final Duration LEASE_DURATION = Duration.ofMinutes(5);
+    private static final Duration BASE_RETRY_DELAY = Duration.ofSeconds(10);
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    public static final int MAX_ATTEMPTS = 5;
+
+    private final MongoTemplate mongoTemplate;
+
+    public void enqueue(PostImageJob job) {
+        mongoTemplate.insert(job);
+    }
+
+    /**
+     * 실행 가능한 작업 하나를 임대한다. 대기 중이거나 임대가 만료된 작업 중 가장 오래 기다린 것을 가져온다.
+     */
+    public PostImageJob claim() {
+        Instant now = Instant.now();
+        Query query = Query.query(new Criteria().orOperator(
+                        Criteria.where("status").is(PostImageJobStatus.PENDING).and("availableAt").lte(now),
+                        Criteria.where("status").is(PostImageJobStatus.RUNNING).and("leaseUntil").lte(now)
+                ))
+                .with(Sort.by(Sort.Direction.ASC, "availableAt"));
+        Update update = new Update()
+                .set("status", PostImageJobStatus.RUNNING)
+                .set("leaseUntil", now.plus(LEASE_DURATION))
+                .inc("attempts", 1);
+        return mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true), PostImageJob.class);
+    }
+
+    public void complete(PostImageJob job) {
+        mongoTemplate.remove(Query.query(Criteria.where("_id").is(job.getId())), PostImageJob.class);
+    }
+
+    /**
+     * 실패한 작업을 지수 백오프로 다시 대기시킨다. 재시도 한도를 넘기면 FAILED로 남기고 false를 반환한다.
+     */
+    public boolean retryOrFail(PostImageJob job, String error) {
+        Update update = new Update()
+                .unset("leaseUntil")
+                .set("lastError", truncate(error));
+        boolean retrying = job.getAttempts() < MAX_ATTEMPTS;
+        if (retrying) {
+            Duration delay = BASE_RETRY_DELAY.multipliedBy(1L << (job.getAttempts() - 1));
+            update.set("status", PostImageJobStatus.PENDING)
+                    .set("availableAt", Instant.now().plus(delay));
+        } else {
+            update.set("status", PostImageJobStatus.FAILED);
+        }
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(job.getId())), update, PostImageJob.class);
+        return retrying;
+    }
+
+    private String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
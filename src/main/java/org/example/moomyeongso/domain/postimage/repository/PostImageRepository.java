@@ -1,6 +1,7 @@
 package org.example.moomyeongso.domain.postimage.repository;
 
 import org.example.moomyeongso.domain.postimage.entity.PostImage;
+import org.example.moomyeongso.domain.postimage.entity.PostImageProcessingStatus;
 import org.example.moomyeongso.domain.postimage.entity.PostImageStatus;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
@@ -17,5 +18,11 @@ public interface PostImageRepository extends MongoRepository<PostImage, String>
     List<PostImage> findAllByStatusAndDeleteAfterLessThanEqual(PostImageStatus status, Instant now, Pageable pageable);
 
     List<PostImage> findAllByStatusAndCreatedAtBefore(PostImageStatus status, Instant cutoff, Pageable pageable);
+
+    List<PostImage> findAllByProcessingStatusAndCreatedAtBefore(
+            PostImageProcessingStatus processingStatus,
+            Instant cutoff,
+            Pageable pageable
+    );
 }
 
@@ -0,0 +1,54 @@
+package org.example.moomyeongso.domain.postimage.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.moomyeongso.domain.postimage.entity.PostImage;
+import org.example.moomyeongso.domain.postimage.entity.PostImageProcessingStatus;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 직접 업로드 확정 임대. 게시글 작성 요청과 미확정 업로드 스캔이 같은 이미지를 동시에 확정하지 않도록
+ * UPLOADING 상태이면서 임대가 없거나 만료된 이미지만 findAndModify로 가져간다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostImageUploadLeases {
+
+    private static final Duration LEASE_DURATION = Duration.ofMinutes(2);
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * 확정할 이미지를 임대한다. 이미 확정됐거나 다른 쪽이 확정 중이면 null.
+     */
+    public PostImage claim(String imageId) {
+        Instant now = Instant.now();
+        Query query = Query.query(Criteria.where("_id").is(imageId)
+                .and("processingStatus").is(PostImageProcessingStatus.UPLOADING)
+                .orOperator(
+                        Criteria.where("uploadLeaseUntil").is(null),
+                        Criteria.where("uploadLeaseUntil").lte(now)
+                ));
+        return mongoTemplate.findAndModify(
+                query,
+                new Update().set("uploadLeaseUntil", now.plus(LEASE_DURATION)),
+                FindAndModifyOptions.options().returnNew(true),
+                PostImage.class
+        );
+    }
+
+    public void release(String imageId) {
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(imageId)),
+                new Update().unset("uploadLeaseUntil"),
+                PostImage.class
+        );
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.moomyeongso.domain.postimage.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import org.example.moomyeongso.domain.postimage.service.PostImageProcessingService;
+import org.example.moomyeongso.domain.postimage.service.PostImageService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PostImageProcessingScheduler {
+
+    private final PostImageProcessingService postImageProcessingService;
+    private final PostImageService postImageService;
+
+    @Scheduled(fixedDelayString = "${app.post-images.processing-poll-interval-ms:1000}")
+    public void processPendingJobs() {
+        postImageProcessingService.processPendingJobs();
+    }
+
+    @Scheduled(fixedDelayString = "${app.post-images.direct-upload-scan-interval-ms:60000}")
+    public void finalizeStaleDirectUploads() {
+        postImageService.finalizeStaleDirectUploads();
+    }
+}
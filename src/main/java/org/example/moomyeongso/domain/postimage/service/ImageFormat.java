@@ -11,6 +11,9 @@ enum ImageFormat {
     PNG("png", "image/png"),
     WEBP("webp", "image/webp");
 
+    // 판별에 필요한 최대 시그니처 길이(WEBP: RIFF....WEBP)
+    static final int SIGNATURE_LENGTH = 12;
+
     private final String extension;
     private final String contentType;
 
@@ -27,6 +30,26 @@ enum ImageFormat {
         return contentType;
     }
 
+    static ImageFormat fromExtension(String extension) {
+        String normalized = extension == null ? "" : extension.toLowerCase(Locale.ROOT);
+        return switch (normalized) {
+            case "jpg", "jpeg" -> JPEG;
+            case "png" -> PNG;
+            case "webp" -> WEBP;
+            default -> throw new IllegalArgumentException("Unsupported image format: " + extension);
+        };
+    }
+
+    static ImageFormat fromContentType(String contentType) {
+        String normalized = contentType == null ? "" : contentType.toLowerCase(Locale.ROOT);
+        return switch (normalized) {
+            case "image/jpeg", "image/jpg" -> JPEG;
+            case "image/png" -> PNG;
+            case "image/webp" -> WEBP;
+            default -> throw new CustomException(ErrorCode.UNSUPPORTED_IMAGE_TYPE);
+        };
+    }
+
     static ImageFormat detect(byte[] bytes, String declaredContentType) {
         ImageFormat detected = detectBySignature(bytes);
         if (!StringUtils.hasText(declaredContentType)) {
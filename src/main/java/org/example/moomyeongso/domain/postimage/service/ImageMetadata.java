@@ -1,11 +1,8 @@
 package org.example.moomyeongso.domain.postimage.service;
 
-public record ProcessedImage(
-        byte[] originalBytes,
-        byte[] thumbnailBytes,
+public record ImageMetadata(
         ImageFormat format,
         int width,
         int height
 ) {
 }
-
@@ -1,13 +1,16 @@
 package org.example.moomyeongso.domain.postimage.service;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.example.moomyeongso.common.exception.CustomException;
 import org.example.moomyeongso.common.exception.ErrorCode;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.stereotype.Component;
-import org.springframework.web.multipart.MultipartFile;
 
 import javax.imageio.IIOImage;
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
 import javax.imageio.ImageReader;
 import javax.imageio.ImageWriteParam;
 import javax.imageio.ImageWriter;
@@ -17,28 +20,68 @@ import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class ImageProcessor {
 
     private static final int MAX_PIXELS = 25_000_000;
-    private static final String THUMBNAIL_FORMAT = "jpg";
+    // 서브샘플링은 픽셀을 건너뛰기만 하므로 가장 큰 렌디션보다 여유 있게 읽은 뒤 보간 축소로 품질을 맞춘다
+    private static final double SUBSAMPLED_DECODE_MARGIN = 1.5;
 
     private final PostImageProperties properties;
 
-    public ProcessedImage process(MultipartFile file) {
+    // 큰 것부터 정렬. 작은 렌디션은 직전 렌디션 결과에서 이어서 줄인다
+    private List<RenditionSpec> renditionSpecs;
+
+    @PostConstruct
+    void resolveRenditions() {
+        if (properties.getRenditions() == null || properties.getRenditions().isEmpty()) {
+            throw new IllegalStateException("app.post-images.renditions must not be empty");
+        }
+        renditionSpecs = properties.getRenditions().stream()
+                .map(rendition -> new RenditionSpec(
+                        rendition.getSize(),
+                        resolveOutputFormat(rendition.getFormat()),
+                        rendition.getQuality()
+                ))
+                .sorted(Comparator.comparingInt(RenditionSpec::size).reversed())
+                .toList();
+    }
+
+    /**
+     * 업로드 요청 중에 실행하는 가벼운 검사. 앞부분 시그니처로 형식을 판별하고 헤더에서 크기만 읽으며 디코딩은 하지 않는다.
+     */
+    public ImageMetadata inspect(InputStreamSource source, String declaredContentType) {
         try {
-            byte[] bytes = file.getBytes();
-            ImageFormat format = ImageFormat.detect(bytes, file.getContentType());
-            BufferedImage original = readImage(bytes);
+            ImageFormat format = ImageFormat.detect(readSignature(source), declaredContentType);
+            return withReader(source, reader -> {
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                validateDimensions(width, height);
+                return new ImageMetadata(format, width, height);
+            });
+        } catch (CustomException ex) {
+            throw ex;
+        } catch (IOException ex) {
+            throw new CustomException(ErrorCode.INVALID_IMAGE);
+        }
+    }
 
-            byte[] thumbnail = createThumbnail(original);
-            return new ProcessedImage(bytes, thumbnail, format, original.getWidth(), original.getHeight());
+    /**
+     * 원본 전체를 힙에 올리지 않고 스트림에서 디코딩해, 한 번의 디코딩 결과로 모든 렌디션을 만든다.
+     */
+    public List<ProcessedRendition> createRenditions(InputStreamSource source) {
+        try {
+            return renderRenditions(readImage(source));
         } catch (CustomException ex) {
             throw ex;
         } catch (IOException ex) {
@@ -46,8 +89,43 @@ public class ImageProcessor {
         }
     }
 
-    private BufferedImage readImage(byte[] bytes) throws IOException {
-        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+    private byte[] readSignature(InputStreamSource source) throws IOException {
+        try (InputStream input = source.getInputStream()) {
+            return input.readNBytes(ImageFormat.SIGNATURE_LENGTH);
+        }
+    }
+
+    /**
+     * 렌디션에 필요한 만큼만 디코딩한다. 원본 크기는 헤더에서 읽고,
+     * 디코더 단계에서 행/열을 건너뛰어(subsampling) 가장 큰 렌디션의 1.5배 이상인 가장 작은 해상도로 읽는다.
+     * 4000x3000 사진은 전체(약 48MB) 대신 2000x1500(약 12MB)만 메모리에 올라간다.
+     */
+    private BufferedImage readImage(InputStreamSource source) throws IOException {
+        return withReader(source, reader -> {
+            int width = reader.getWidth(0);
+            int height = reader.getHeight(0);
+            validateDimensions(width, height);
+
+            ImageReadParam param = reader.getDefaultReadParam();
+            int subsampling = subsamplingFor(width, height);
+            if (subsampling > 1) {
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+            }
+
+            BufferedImage image = reader.read(0, param);
+            if (image == null) {
+                throw new CustomException(ErrorCode.INVALID_IMAGE);
+            }
+            return image;
+        });
+    }
+
+    private <T> T withReader(InputStreamSource source, ReaderCallback<T> callback) throws IOException {
+        try (InputStream sourceInput = source.getInputStream();
+             ImageInputStream input = ImageIO.createImageInputStream(sourceInput)) {
+            if (input == null) {
+                throw new CustomException(ErrorCode.INVALID_IMAGE);
+            }
             Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
             if (!readers.hasNext()) {
                 throw new CustomException(ErrorCode.INVALID_IMAGE);
@@ -56,18 +134,18 @@ public class ImageProcessor {
             ImageReader reader = readers.next();
             try {
                 reader.setInput(input, true, true);
-                validateDimensions(reader.getWidth(0), reader.getHeight(0));
-                BufferedImage image = reader.read(0);
-                if (image == null) {
-                    throw new CustomException(ErrorCode.INVALID_IMAGE);
-                }
-                return image;
+                return callback.read(reader);
             } finally {
                 reader.dispose();
             }
         }
     }
 
+    private int subsamplingFor(int width, int height) {
+        int decodeTarget = (int) Math.ceil(renditionSpecs.get(0).size() * SUBSAMPLED_DECODE_MARGIN);
+        return Math.max(1, Math.max(width, height) / decodeTarget);
+    }
+
     private void validateDimensions(int width, int height) {
         long pixels = (long) width * height;
         if (pixels <= 0 || pixels > MAX_PIXELS) {
@@ -75,30 +153,76 @@ public class ImageProcessor {
         }
     }
 
-    private byte[] createThumbnail(BufferedImage original) throws IOException {
-        int maxSide = properties.getThumbnailSize();
-        double ratio = Math.min(1.0, (double) maxSide / Math.max(original.getWidth(), original.getHeight()));
-        int width = Math.max(1, (int) Math.round(original.getWidth() * ratio));
-        int height = Math.max(1, (int) Math.round(original.getHeight() * ratio));
+    private List<ProcessedRendition> renderRenditions(BufferedImage source) throws IOException {
+        // 투명 배경은 흰색으로 채우며 RGB로 옮긴 뒤, 절반씩 줄여 한 번에 크게 줄일 때 생기는 계단 현상을 막는다
+        BufferedImage current = toRgb(source);
+        double sourceMaxSide = Math.max(source.getWidth(), source.getHeight());
 
-        BufferedImage thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
-        Graphics2D graphics = thumbnail.createGraphics();
+        List<ProcessedRendition> renditions = new ArrayList<>(renditionSpecs.size());
+        for (RenditionSpec spec : renditionSpecs) {
+            double ratio = Math.min(1.0, spec.size() / sourceMaxSide);
+            int width = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+            int height = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+
+            current = downscale(current, width, height);
+            renditions.add(new ProcessedRendition(
+                    spec.size(),
+                    width,
+                    height,
+                    spec.format(),
+                    writeImage(current, spec.format(), spec.quality())
+            ));
+        }
+        return renditions;
+    }
+
+    private BufferedImage downscale(BufferedImage source, int width, int height) {
+        BufferedImage current = source;
+        int currentWidth = current.getWidth();
+        int currentHeight = current.getHeight();
+        while (currentWidth / 2 >= width && currentHeight / 2 >= height) {
+            currentWidth /= 2;
+            currentHeight /= 2;
+            current = resize(current, currentWidth, currentHeight, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        }
+        if (currentWidth != width || currentHeight != height) {
+            current = resize(current, width, height, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        }
+        return current;
+    }
+
+    private BufferedImage toRgb(BufferedImage source) {
+        if (source.getType() == BufferedImage.TYPE_INT_RGB) {
+            return source;
+        }
+
+        BufferedImage rgb = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
         try {
-            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
-            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
-            graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
             graphics.setColor(Color.WHITE);
-            graphics.fillRect(0, 0, width, height);
-            graphics.drawImage(original, 0, 0, width, height, null);
+            graphics.fillRect(0, 0, rgb.getWidth(), rgb.getHeight());
+            graphics.drawImage(source, 0, 0, null);
         } finally {
             graphics.dispose();
         }
+        return rgb;
+    }
 
-        return writeJpeg(thumbnail);
+    private BufferedImage resize(BufferedImage source, int width, int height, Object interpolation) {
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, interpolation);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
     }
 
-    private byte[] writeJpeg(BufferedImage image) throws IOException {
-        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(THUMBNAIL_FORMAT);
+    private byte[] writeImage(BufferedImage image, ImageFormat format, float quality) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(format.extension());
         if (!writers.hasNext()) {
             throw new CustomException(ErrorCode.INVALID_IMAGE);
         }
@@ -110,12 +234,35 @@ public class ImageProcessor {
             ImageWriteParam params = writer.getDefaultWriteParam();
             if (params.canWriteCompressed()) {
                 params.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
-                params.setCompressionQuality(0.85f);
+                String[] compressionTypes = params.getCompressionTypes();
+                if (params.getCompressionType() == null && compressionTypes != null && compressionTypes.length > 0) {
+                    params.setCompressionType(compressionTypes[0]);
+                }
+                params.setCompressionQuality(quality);
             }
             writer.write(null, new IIOImage(image, null, null), params);
+            imageOutput.flush();
             return output.toByteArray();
         } finally {
             writer.dispose();
         }
     }
+
+    // imageio-webp 등 읽기 전용 플러그인만 있는 형식은 JPEG로 대신 저장
+    private ImageFormat resolveOutputFormat(String configured) {
+        ImageFormat format = ImageFormat.fromExtension(configured);
+        if (ImageIO.getImageWritersByFormatName(format.extension()).hasNext()) {
+            return format;
+        }
+        log.warn("No ImageIO writer for rendition format {}. Falling back to JPEG.", configured);
+        return ImageFormat.JPEG;
+    }
+
+    private record RenditionSpec(int size, ImageFormat format, float quality) {
+    }
+
+    @FunctionalInterface
+    private interface ReaderCallback<T> {
+        T read(ImageReader reader) throws IOException;
+    }
 }
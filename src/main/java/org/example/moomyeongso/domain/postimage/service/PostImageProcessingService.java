@@ -0,0 +1,263 @@
+package org.example.moomyeongso.domain.postimage.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.moomyeongso.common.config.aws.S3StorageProperties;
+import org.example.moomyeongso.domain.post.entity.Post;
+import org.example.moomyeongso.domain.post.entity.PostImageRendition;
+import org.example.moomyeongso.domain.postimage.entity.PostImage;
+import org.example.moomyeongso.domain.postimage.entity.PostImageBlob;
+import org.example.moomyeongso.domain.postimage.entity.PostImageJob;
+import org.example.moomyeongso.domain.postimage.entity.PostImageProcessingStatus;
+import org.example.moomyeongso.domain.postimage.repository.PostImageBlobStore;
+import org.example.moomyeongso.domain.postimage.repository.PostImageJobQueue;
+import org.example.moomyeongso.domain.postimage.storage.ImageStorageService;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드 응답 이후 백그라운드에서 렌디션을 만든다.
+ * 원본을 스토리지에서 다시 읽어 디코딩/인코딩하고, 결과를 이미지와(이미 첨부됐다면) 게시글에 반영한다.
+ * 동시에 처리하는 작업 수는 processingConcurrency로 제한하며, 빈 슬롯만큼만 큐에서 꺼내므로 스케줄러 스레드를 막지 않는다.
+ */
+@Slf4j
+@Service
+public class PostImageProcessingService {
+
+    private final PostImageJobQueue postImageJobQueue;
+    private final PostImageBlobStore postImageBlobStore;
+    private final ImageProcessor imageProcessor;
+    private final ImageStorageService imageStorageService;
+    private final PostImageProperties postImageProperties;
+    private final S3StorageProperties s3StorageProperties;
+    private final MongoTemplate mongoTemplate;
+    private final Semaphore slots;
+    private final ThreadPoolExecutor executor;
+
+    public PostImageProcessingService(
+            PostImageJobQueue postImageJobQueue,
+            PostImageBlobStore postImageBlobStore,
+            ImageProcessor imageProcessor,
+            ImageStorageService imageStorageService,
+            PostImageProperties postImageProperties,
+            S3StorageProperties s3StorageProperties,
+            MongoTemplate mongoTemplate
+    ) {
+        this.postImageJobQueue = postImageJobQueue;
+        this.postImageBlobStore = postImageBlobStore;
+        this.imageProcessor = imageProcessor;
+        this.imageStorageService = imageStorageService;
+        this.postImageProperties = postImageProperties;
+        this.s3StorageProperties = s3StorageProperties;
+        this.mongoTemplate = mongoTemplate;
+
+        int concurrency = Math.max(1, postImageProperties.getProcessingConcurrency());
+        this.slots = new Semaphore(concurrency);
+        // 슬롯을 확보한 뒤에만 제출하므로 큐가 쌓이지 않는다
+        this.executor = new ThreadPoolExecutor(
+                concurrency,
+                concurrency,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                new CustomizableThreadFactory("post-image-processing-")
+        );
+    }
+
+    public void processPendingJobs() {
+        while (slots.tryAcquire()) {
+            PostImageJob job;
+            try {
+                job = postImageJobQueue.claim();
+            } catch (RuntimeException ex) {
+                slots.release();
+                throw ex;
+            }
+            if (job == null) {
+                slots.release();
+                return;
+            }
+            executor.execute(() -> {
+                try {
+                    process(job);
+                } finally {
+                    slots.release();
+                }
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 진행 중이던 작업은 임대가 만료되면 다른 노드나 재시작 후 다시 처리된다
+        executor.shutdownNow();
+    }
+
+    private void process(PostImageJob job) {
+        List<PostImageRendition> uploaded = new ArrayList<>();
+        try {
+            PostImageBlob current = postImageBlobStore.find(job.getContentHash());
+            if (current == null || current.getRefCount() <= 0) {
+                postImageJobQueue.complete(job);
+                return;
+            }
+
+            List<ProcessedRendition> renditions =
+                    imageProcessor.createRenditions(imageStorageService.download(job.getOriginalKey()));
+            // 렌디션은 동시에 전송하고, 일부만 성공했어도 정리할 수 있도록 모두 끝난 뒤 결과를 모은다
+            List<CompletableFuture<PostImageRendition>> uploads = renditions.stream()
+                    .map(rendition -> uploadRendition(job.getBaseKey(), rendition))
+                    .toList();
+            try {
+                CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new)).join();
+            } finally {
+                uploads.stream()
+                        .filter(upload -> upload.isDone() && !upload.isCompletedExceptionally())
+                        .map(CompletableFuture::join)
+                        .forEach(uploaded::add);
+            }
+
+            PostImageBlob blob = postImageBlobStore.markReady(job.getContentHash(), uploaded, selectThumbnail(uploaded));
+            if (blob == null) {
+                // 처리 중에 마지막 참조가 정리된 경우
+                uploaded.forEach(this::deleteQuietly);
+                postImageJobQueue.complete(job);
+                return;
+            }
+            // 이제 blob이 렌디션을 참조하므로 이후 단계가 실패해도 지우지 않는다. 재시도는 같은 키에 다시 올린다
+            uploaded.clear();
+            applyToImages(blob);
+            postImageJobQueue.complete(job);
+        } catch (RuntimeException ex) {
+            uploaded.forEach(this::deleteQuietly);
+            handleFailure(job, ex);
+        }
+    }
+
+    private CompletableFuture<PostImageRendition> uploadRendition(String baseKey, ProcessedRendition rendition) {
+        String key = s3StorageProperties.getS3().getThumbnailPrefix() + "/" + baseKey + "-" + rendition.size()
+                + "." + rendition.format().extension();
+        return imageStorageService.uploadAsync(rendition.bytes(), key, rendition.format().contentType())
+                .thenApply(stored -> PostImageRendition.builder()
+                        .size(rendition.size())
+                        .width(rendition.width())
+                        .height(rendition.height())
+                        .storageKey(stored.key())
+                        .url(stored.url())
+                        .contentType(rendition.format().contentType())
+                        .build());
+    }
+
+    /**
+     * 같은 blob을 참조하는 이미지 전체에 렌디션을 반영하고, 그중 게시글에 첨부된 이미지는 게시글에도 반영한다.
+     */
+    private void applyToImages(PostImageBlob blob) {
+        Query sameContent = Query.query(Criteria.where("contentHash").is(blob.getContentHash()));
+        mongoTemplate.updateMulti(
+                sameContent,
+                new Update()
+                        .set("renditions", blob.getRenditions())
+                        .set("thumbnailStorageKey", blob.getThumbnailStorageKey())
+                        .set("thumbnailUrl", blob.getThumbnailUrl())
+                        .set("processingStatus", PostImageProcessingStatus.READY),
+                PostImage.class
+        );
+
+        Query attached = Query.query(Criteria.where("contentHash").is(blob.getContentHash()).and("postId").ne(null));
+        attached.fields().include("_id", "postId");
+        for (PostImage image : mongoTemplate.find(attached, PostImage.class)) {
+            applyToPost(image.getPostId(), image.getId(), blob);
+        }
+    }
+
+    /**
+     * 처리가 끝나기 전에 게시글에 첨부된 경우 첨부 시점에 비어 있던 썸네일과 렌디션을 채운다.
+     * 대표 이미지(첫 번째)라면 피드 미리보기용 thumbnailUrl도 함께 바꾼다.
+     */
+    private void applyToPost(String postId, String imageId, PostImageBlob blob) {
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(postId).and("images.imageId").is(imageId)),
+                new Update()
+                        .set("images.$.thumbnailUrl", blob.getThumbnailUrl())
+                        .set("images.$.renditions", blob.getRenditions())
+                        .set("images.$.processingStatus", PostImageProcessingStatus.READY),
+                Post.class
+        );
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(postId).and("images.0.imageId").is(imageId)),
+                new Update().set("thumbnailUrl", blob.getThumbnailUrl()),
+                Post.class
+        );
+    }
+
+    private void handleFailure(PostImageJob job, RuntimeException ex) {
+        try {
+            if (postImageJobQueue.retryOrFail(job, ex.toString())) {
+                log.warn("Post image processing failed, will retry. jobId={}, contentHash={}, attempts={}",
+                        job.getId(), job.getContentHash(), job.getAttempts(), ex);
+                return;
+            }
+            // 원본을 썸네일로 내보내지 않고 FAILED를 그대로 노출한다
+            if (!postImageBlobStore.markFailed(job.getContentHash())) {
+                // 렌디션은 반영됐고 이미지/게시글 반영만 실패한 경우. 올린 렌디션이 살아 있으므로 FAILED로 덮지 않는다
+                log.error("Post image renditions were stored but could not be applied. jobId={}, contentHash={}",
+                        job.getId(), job.getContentHash(), ex);
+                return;
+            }
+            mongoTemplate.updateMulti(
+                    Query.query(Criteria.where("contentHash").is(job.getContentHash())),
+                    new Update().set("processingStatus", PostImageProcessingStatus.FAILED),
+                    PostImage.class
+            );
+            markAttachmentsFailed(job.getContentHash());
+            log.error("Post image processing failed permanently. jobId={}, contentHash={}",
+                    job.getId(), job.getContentHash(), ex);
+        } catch (RuntimeException updateEx) {
+            // 상태를 남기지 못해도 임대가 만료되면 다시 처리된다
+            log.error("Failed to record post image processing failure. jobId={}", job.getId(), updateEx);
+        }
+    }
+
+    private void markAttachmentsFailed(String contentHash) {
+        Query attached = Query.query(Criteria.where("contentHash").is(contentHash).and("postId").ne(null));
+        attached.fields().include("_id", "postId");
+        for (PostImage image : mongoTemplate.find(attached, PostImage.class)) {
+            mongoTemplate.updateFirst(
+                    Query.query(Criteria.where("_id").is(image.getPostId()).and("images.imageId").is(image.getId())),
+                    new Update().set("images.$.processingStatus", PostImageProcessingStatus.FAILED),
+                    Post.class
+            );
+        }
+    }
+
+    private PostImageRendition selectThumbnail(List<PostImageRendition> renditions) {
+        int thumbnailSize = postImageProperties.getThumbnailSize();
+        return renditions.stream()
+                .filter(rendition -> rendition.getSize() == thumbnailSize)
+                .findFirst()
+                .orElseGet(() -> renditions.stream()
+                        .max(Comparator.comparingInt(PostImageRendition::getSize))
+                        .orElseThrow());
+    }
+
+    private void deleteQuietly(PostImageRendition rendition) {
+        try {
+            imageStorageService.delete(rendition.getStorageKey());
+        } catch (RuntimeException ignored) {
+            log.warn("Failed to delete post image rendition. key={}", rendition.getStorageKey());
+        }
+    }
+}
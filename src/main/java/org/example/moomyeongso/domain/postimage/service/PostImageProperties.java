@@ -1,9 +1,14 @@
 package org.example.moomyeongso.domain.postimage.service;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Getter
 @Setter
 @ConfigurationProperties(prefix = "app.post-images")
@@ -11,8 +16,35 @@ public class PostImageProperties {
 
     private int maxImagesPerPost = 5;
     private long maxFileSizeBytes = 10 * 1024 * 1024;
+    // renditions 중 이 크기의 결과물을 대표 썸네일(thumbnailUrl)로 사용
     private int thumbnailSize = 512;
     private long temporaryRetentionHours = 24;
     private long deletedRetentionDays = 7;
-}
+    // 정리 작업이 한 번 실행될 때 쓸 수 있는 최대 시간. 남은 대상은 다음 실행에서 이어서 지운다
+    private long cleanupTimeBudgetMinutes = 30;
+    // 렌디션 생성은 CPU와 메모리를 많이 쓰므로 노드당 동시 처리 수를 제한
+    private int processingConcurrency = 2;
+    // presigned 업로드 URL 유효 시간. 이 시간이 지나도 확정되지 않은 업로드는 스캔이 확정을 시도한다
+    private long directUploadUrlExpiryMinutes = 10;
+    private List<Rendition> renditions = new ArrayList<>(List.of(
+            new Rendition(160, "jpg", 0.75f),
+            new Rendition(320, "jpg", 0.8f),
+            new Rendition(512, "jpg", 0.85f),
+            new Rendition(1024, "jpg", 0.85f)
+    ));
 
+    /**
+     * 긴 변 기준 최대 크기(px)와 출력 형식(jpg, webp)·품질.
+     * webp 인코더가 클래스패스에 없으면 jpg로 저장한다.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Rendition {
+
+        private int size;
+        private String format = "jpg";
+        private float quality = 0.85f;
+    }
+}
@@ -2,31 +2,61 @@ package org.example.moomyeongso.domain.postimage.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
 import org.example.moomyeongso.common.config.aws.S3StorageProperties;
 import org.example.moomyeongso.common.exception.CustomException;
 import org.example.moomyeongso.common.exception.ErrorCode;
 import org.example.moomyeongso.domain.post.entity.PostImageAttachment;
+import org.example.moomyeongso.domain.postimage.dto.request.PostImageUploadUrlRequestDto;
 import org.example.moomyeongso.domain.postimage.dto.response.PostImageUploadResponseDto;
+import org.example.moomyeongso.domain.postimage.dto.response.PostImageUploadUrlResponseDto;
+import org.example.moomyeongso.domain.postimage.dto.response.ReservedPostImageResponseDto;
 import org.example.moomyeongso.domain.postimage.dto.response.UploadedPostImageResponseDto;
 import org.example.moomyeongso.domain.postimage.entity.PostImage;
+import org.example.moomyeongso.domain.postimage.entity.PostImageBlob;
+import org.example.moomyeongso.domain.postimage.entity.PostImageJob;
+import org.example.moomyeongso.domain.postimage.entity.PostImageProcessingStatus;
 import org.example.moomyeongso.domain.postimage.entity.PostImageStatus;
+import org.example.moomyeongso.domain.postimage.repository.PostImageBlobStore;
+import org.example.moomyeongso.domain.postimage.repository.PostImageJobQueue;
 import org.example.moomyeongso.domain.postimage.repository.PostImageRepository;
+import org.example.moomyeongso.domain.postimage.repository.PostImageUploadLeases;
 import org.example.moomyeongso.domain.postimage.storage.ImageStorageService;
+import org.example.moomyeongso.domain.postimage.storage.PresignedUpload;
 import org.example.moomyeongso.domain.postimage.storage.StoredImageObject;
+import org.example.moomyeongso.domain.postimage.storage.StoredObjectMetadata;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDate;
-import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -34,35 +64,169 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class PostImageService {
 
-    private static final String THUMBNAIL_CONTENT_TYPE = "image/jpeg";
-    private static final String THUMBNAIL_EXTENSION = "jpg";
-    private static final int CLEANUP_BATCH_SIZE = 100;
-    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    // 이미지당 객체는 많아야 렌디션 수 + 1개라 한 페이지의 키가 대체로 DeleteObjects 한 번(1000개)에 들어간다
+    private static final int CLEANUP_BATCH_SIZE = 200;
+    private static final int HASH_BUFFER_SIZE = 64 * 1024;
+    private static final int INSPECT_HEAD_BYTES = 64 * 1024;
+    // 스캔은 스케줄러 스레드에서 원본 헤더를 읽으므로 한 번에 조금씩만 확정한다
+    private static final int STALE_UPLOAD_BATCH_SIZE = 20;
 
     private final PostImageRepository postImageRepository;
     private final ImageProcessor imageProcessor;
     private final ImageStorageService imageStorageService;
     private final PostImageProperties postImageProperties;
     private final S3StorageProperties s3StorageProperties;
+    private final PostImageUploadExecutor postImageUploadExecutor;
+    private final PostImageJobQueue postImageJobQueue;
+    private final PostImageBlobStore postImageBlobStore;
+    private final PostImageUploadLeases postImageUploadLeases;
+    private final MongoTemplate mongoTemplate;
 
-    @Transactional("mongoTransactionManager")
+    /**
+     * 요청 스레드에서는 헤더 검사와 원본 업로드만 하고, 렌디션 생성은 작업 큐를 통해 워커에 넘긴다.
+     * 처리가 끝나기 전까지 thumbnailUrl은 비어 있고, 클라이언트는 processingStatus를 보고 자리표시 이미지를 보여준다.
+     * 이미 같은 내용(SHA-256)이 올라와 있으면 업로드와 렌디션 생성 없이 기존 객체를 참조한다.
+     *
+     * blob 참조 카운트는 여러 요청이 동시에 건드리는 문서라 트랜잭션에 묶지 않고,
+     * 실패하면 저장한 문서를 지우고 늘린 참조를 되돌리는 보상 처리로 정리한다.
+     */
     public PostImageUploadResponseDto uploadImages(List<MultipartFile> files, String userId) {
         validateUploadFiles(files);
+        files.forEach(this::validateFile);
+
+        List<CompletableFuture<UploadedImage>> uploads = files.stream()
+                .map(this::uploadOne)
+                .toList();
+        List<UploadedImage> uploadedImages = awaitUploads(uploads);
 
-        List<PostImage> uploadedImages = new ArrayList<>();
+        List<PostImage> images = uploadedImages.stream()
+                .map(uploaded -> uploaded.toPostImage(new ObjectId().toHexString(), userId, Instant.now()))
+                .toList();
+        List<PostImage> savedImages;
         try {
-            for (MultipartFile file : files) {
-                uploadedImages.add(uploadOne(file, userId));
-            }
+            savedImages = new ArrayList<>(postImageRepository.saveAll(images));
         } catch (RuntimeException ex) {
-            uploadedImages.forEach(this::deleteObjectsQuietly);
+            deleteDocumentsQuietly(images);
+            uploadedImages.forEach(this::releaseQuietly);
             throw ex;
         }
+        syncWithProcessedBlobs(uploadedImages, savedImages);
 
-        List<UploadedPostImageResponseDto> images = uploadedImages.stream()
+        List<UploadedPostImageResponseDto> responses = savedImages.stream()
                 .map(UploadedPostImageResponseDto::from)
                 .toList();
-        return PostImageUploadResponseDto.of(images);
+        return PostImageUploadResponseDto.of(responses);
+    }
+
+    /**
+     * 클라이언트가 스토리지로 직접 올릴 수 있도록 presigned URL을 발급하고 UPLOADING 상태의 TEMP 이미지를 만든다.
+     * 크기·형식·SHA-256 체크섬은 서명에 포함되고, 실제 내용 검사·중복 제거·렌디션 생성은 확정 시점에 한다.
+     * 확정되지 않은 채 남은 이미지는 일반 TEMP 이미지와 같이 보관 기간이 지나면 정리된다.
+     */
+    public PostImageUploadUrlResponseDto reserveDirectUploads(List<PostImageUploadUrlRequestDto.FileSpec> files, String userId) {
+        if (files == null || files.isEmpty()) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+        validateImageCount(files.size());
+        files.forEach(file -> {
+            if (file.size() > postImageProperties.getMaxFileSizeBytes()) {
+                throw new CustomException(ErrorCode.IMAGE_TOO_LARGE);
+            }
+        });
+
+        Duration expiresIn = Duration.ofMinutes(postImageProperties.getDirectUploadUrlExpiryMinutes());
+        List<PostImage> images = new ArrayList<>();
+        List<ReservedPostImageResponseDto> responses = new ArrayList<>();
+        for (PostImageUploadUrlRequestDto.FileSpec file : files) {
+            ImageFormat format = ImageFormat.fromContentType(file.contentType());
+            String originalKey = s3StorageProperties.getS3().getOriginalPrefix() + "/"
+                    + buildBaseKey(toHex(file.sha256())) + "." + format.extension();
+            PresignedUpload upload = imageStorageService.presignUpload(
+                    originalKey, format.contentType(), file.size(), file.sha256(), expiresIn);
+
+            PostImage image = PostImage.builder()
+                    .id(new ObjectId().toHexString())
+                    .userId(userId)
+                    .storageKey(originalKey)
+                    .imageUrl(upload.objectUrl())
+                    .contentType(format.contentType())
+                    .size(file.size())
+                    .processingStatus(PostImageProcessingStatus.UPLOADING)
+                    .createdAt(Instant.now())
+                    .build();
+            images.add(image);
+            responses.add(ReservedPostImageResponseDto.of(image, upload));
+        }
+        postImageRepository.saveAll(images);
+        return PostImageUploadUrlResponseDto.of(responses);
+    }
+
+    /**
+     * 직접 업로드한 이미지를 확정한다. 이미 확정된 이미지는 건너뛰고, 나머지는 업로드 풀에서 동시에 확인한다.
+     */
+    public void finalizeDirectUploads(List<String> imageIds, String userId) {
+        validateImageCount(imageIds.size());
+        Map<String, PostImage> imagesById = postImageRepository.findAllByIdInAndUserId(imageIds, userId)
+                .stream()
+                .collect(Collectors.toMap(PostImage::getId, Function.identity()));
+
+        List<CompletableFuture<Void>> finalizations = new ArrayList<>();
+        for (String imageId : new LinkedHashSet<>(imageIds)) {
+            PostImage image = imagesById.get(imageId);
+            if (image == null) {
+                throw new CustomException(ErrorCode.POST_IMAGE_NOT_FOUND);
+            }
+            if (image.getProcessingStatus() != PostImageProcessingStatus.UPLOADING) {
+                continue;
+            }
+            finalizations.add(postImageUploadExecutor.supplyAsync(() -> {
+                PostImage claimed = postImageUploadLeases.claim(imageId);
+                if (claimed == null) {
+                    // 스캔이 확정하는 중이거나 방금 끝낸 경우. 끝났다면 첨부 단계에서 통과한다
+                    PostImage latest = postImageRepository.findById(imageId).orElse(null);
+                    if (latest == null || latest.getProcessingStatus() == PostImageProcessingStatus.UPLOADING) {
+                        throw new CustomException(ErrorCode.IMAGE_NOT_UPLOADED);
+                    }
+                    return null;
+                }
+                completeDirectUpload(claimed);
+                return null;
+            }));
+        }
+
+        try {
+            CompletableFuture.allOf(finalizations.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException ex) {
+            throw toUploadException(ex);
+        }
+    }
+
+    /**
+     * URL이 만료될 때까지 확정 요청이 오지 않은 업로드를 확정한다.
+     * 원본이 올라와 있으면 일반 이미지처럼 처리를 이어 가고, 없거나 잘못된 내용이면 예약을 지운다.
+     */
+    public void finalizeStaleDirectUploads() {
+        Instant cutoff = Instant.now().minus(Duration.ofMinutes(postImageProperties.getDirectUploadUrlExpiryMinutes()));
+        List<PostImage> staleImages = postImageRepository.findAllByProcessingStatusAndCreatedAtBefore(
+                PostImageProcessingStatus.UPLOADING,
+                cutoff,
+                PageRequest.of(0, STALE_UPLOAD_BATCH_SIZE)
+        );
+        for (PostImage image : staleImages) {
+            PostImage claimed = postImageUploadLeases.claim(image.getId());
+            if (claimed == null) {
+                continue;
+            }
+            try {
+                completeDirectUpload(claimed);
+            } catch (CustomException ex) {
+                if (ex.getErrorCode() == ErrorCode.IMAGE_NOT_UPLOADED) {
+                    discardDirectUpload(claimed);
+                }
+            } catch (RuntimeException ex) {
+                log.warn("Failed to finalize direct upload. imageId={}", claimed.getId(), ex);
+            }
+        }
     }
 
     @Transactional("mongoTransactionManager")
@@ -105,84 +269,434 @@ public class PostImageService {
         postImageRepository.saveAll(images);
     }
 
+    /**
+     * 삭제 대상이 남지 않을 때까지 페이지 단위로 반복해 지운다. 시간 예산을 넘기면 멈추고 나머지는 다음 실행에 맡긴다.
+     */
     public void cleanupExpiredImages() {
-        cleanupDeletedImages();
-        cleanupTemporaryImages();
+        Instant deadline = Instant.now().plus(Duration.ofMinutes(postImageProperties.getCleanupTimeBudgetMinutes()));
+        Instant now = Instant.now();
+        Instant temporaryCutoff = now.minusSeconds(postImageProperties.getTemporaryRetentionHours() * 60 * 60);
+
+        drain("deleted", deadline, () -> postImageRepository.findAllByStatusAndDeleteAfterLessThanEqual(
+                PostImageStatus.DELETED,
+                now,
+                PageRequest.of(0, CLEANUP_BATCH_SIZE)
+        ), this::deleteObjectsAndDocuments);
+        drain("temporary", deadline, () -> postImageRepository.findAllByStatusAndCreatedAtBefore(
+                PostImageStatus.TEMP,
+                temporaryCutoff,
+                PageRequest.of(0, CLEANUP_BATCH_SIZE)
+        ), this::deleteObjectsAndDocuments);
+        // 이전 실행에서 객체 삭제에 실패해 남은 blob
+        drain("unreferenced-blobs", deadline, () -> postImageBlobStore.findUnreferenced(CLEANUP_BATCH_SIZE),
+                this::purgeUnreferenced);
     }
 
-    private PostImage uploadOne(MultipartFile file, String userId) {
-        validateFile(file);
-        ProcessedImage processedImage = imageProcessor.process(file);
+    /**
+     * 검사·해시·참조 확인은 업로드 풀에서, 원본 전송은 비동기 클라이언트로 진행해
+     * 전송 중에는 어떤 스레드도 점유하지 않는다. 등록은 다시 업로드 풀로 넘겨 SDK 응답 스레드에서 Mongo를 호출하지 않는다.
+     */
+    private CompletableFuture<UploadedImage> uploadOne(MultipartFile file) {
+        return postImageUploadExecutor.supplyAsync(() -> prepareUpload(file))
+                .thenCompose(prepared -> {
+                    if (prepared.existing() != null) {
+                        return CompletableFuture.completedFuture(new UploadedImage(prepared.existing()));
+                    }
+                    return imageStorageService.uploadAsync(
+                                    file,
+                                    file.getSize(),
+                                    prepared.originalKey(),
+                                    prepared.metadata().format().contentType()
+                            )
+                            .thenApplyAsync(original -> registerBlob(prepared, original, file.getSize()), postImageUploadExecutor);
+                });
+    }
 
-        String baseKey = buildBaseKey(userId);
-        String originalKey = s3StorageProperties.getS3().getOriginalPrefix() + "/" + baseKey + "." + processedImage.format().extension();
-        String thumbnailKey = s3StorageProperties.getS3().getThumbnailPrefix() + "/" + baseKey + "." + THUMBNAIL_EXTENSION;
+    private PreparedUpload prepareUpload(MultipartFile file) {
+        ImageMetadata metadata = imageProcessor.inspect(file, file.getContentType());
+        String contentHash = sha256(file);
 
-        StoredImageObject original = null;
-        StoredImageObject thumbnail = null;
+        PostImageBlob existing = postImageBlobStore.acquire(contentHash);
+        if (existing != null) {
+            return new PreparedUpload(contentHash, metadata, null, null, existing);
+        }
+
+        String baseKey = buildBaseKey(contentHash);
+        String originalKey = s3StorageProperties.getS3().getOriginalPrefix() + "/" + baseKey + "." + metadata.format().extension();
+        return new PreparedUpload(contentHash, metadata, baseKey, originalKey, null);
+    }
+
+    private UploadedImage registerBlob(PreparedUpload prepared, StoredImageObject original, long size) {
+        PostImageBlob blob = PostImageBlob.builder()
+                .contentHash(prepared.contentHash())
+                .storageKey(original.key())
+                .imageUrl(original.url())
+                .baseKey(prepared.baseKey())
+                .contentType(prepared.metadata().format().contentType())
+                .size(size)
+                .width(prepared.metadata().width())
+                .height(prepared.metadata().height())
+                .build();
+        boolean created;
         try {
-            original = imageStorageService.upload(
-                    processedImage.originalBytes(),
-                    originalKey,
-                    processedImage.format().contentType()
-            );
-            thumbnail = imageStorageService.upload(
-                    processedImage.thumbnailBytes(),
-                    thumbnailKey,
-                    THUMBNAIL_CONTENT_TYPE
-            );
+            created = postImageBlobStore.create(blob);
+        } catch (RuntimeException ex) {
+            deleteQuietly(original);
+            throw ex;
+        }
+        if (!created) {
+            // 같은 내용이 동시에 올라온 경우 먼저 등록된 쪽을 사용
+            PostImageBlob concurrent = postImageBlobStore.acquire(prepared.contentHash());
+            if (concurrent != null) {
+                deleteQuietly(original);
+                return new UploadedImage(concurrent);
+            }
+            if (!recreateBlob(blob)) {
+                deleteQuietly(original);
+                throw new CustomException(ErrorCode.IMAGE_UPLOAD_FAILED);
+            }
+        }
 
-            return postImageRepository.save(PostImage.builder()
-                    .userId(userId)
-                    .storageKey(original.key())
-                    .thumbnailStorageKey(thumbnail.key())
-                    .imageUrl(original.url())
-                    .thumbnailUrl(thumbnail.url())
-                    .contentType(processedImage.format().contentType())
-                    .size(file.getSize())
-                    .width(processedImage.width())
-                    .height(processedImage.height())
+        try {
+            postImageJobQueue.enqueue(PostImageJob.builder()
+                    .contentHash(prepared.contentHash())
+                    .originalKey(original.key())
+                    .baseKey(prepared.baseKey())
+                    .availableAt(Instant.now())
                     .build());
         } catch (RuntimeException ex) {
-            deleteQuietly(original);
-            deleteQuietly(thumbnail);
-            if (ex instanceof CustomException customException) {
-                throw customException;
+            releaseQuietly(prepared.contentHash());
+            throw ex;
+        }
+        return new UploadedImage(blob);
+    }
+
+    /**
+     * 앞부분만 Range로 읽어 형식과 크기를 확인한다. 크기 정보가 그 뒤에 있는 드문 파일(큰 EXIF 등)만 원본 전체로 다시 확인한다.
+     */
+    private ImageMetadata inspectStoredObject(String key, String contentType) {
+        byte[] head = imageStorageService.readHead(key, INSPECT_HEAD_BYTES);
+        try {
+            return imageProcessor.inspect(new ByteArrayResource(head), contentType);
+        } catch (CustomException ex) {
+            if (ex.getErrorCode() != ErrorCode.INVALID_IMAGE || head.length < INSPECT_HEAD_BYTES) {
+                throw ex;
+            }
+            return imageProcessor.inspect(imageStorageService.download(key), contentType);
+        }
+    }
+
+    /**
+     * 임대한 이미지의 원본을 확인하고 blob에 연결한다. 원본이 아직 없으면 임대를 풀고 IMAGE_NOT_UPLOADED,
+     * 크기 초과나 잘못된 내용이면 예약을 지우고 예외를 그대로 던진다.
+     * 내용 해시는 저장소가 업로드 때 검증한 체크섬을 쓰므로 원본 전체를 내려받지 않고 헤더만 읽는다.
+     */
+    private void completeDirectUpload(PostImage image) {
+        String key = image.getStorageKey();
+        ImageMetadata metadata;
+        String contentHash;
+        long size;
+        try {
+            StoredObjectMetadata stored = imageStorageService.findMetadata(key);
+            if (stored == null) {
+                throw new CustomException(ErrorCode.IMAGE_NOT_UPLOADED);
+            }
+            size = stored.contentLength();
+            if (size > postImageProperties.getMaxFileSizeBytes()) {
+                discardDirectUpload(image);
+                throw new CustomException(ErrorCode.IMAGE_TOO_LARGE);
             }
+            try {
+                metadata = inspectStoredObject(key, image.getContentType());
+            } catch (CustomException ex) {
+                discardDirectUpload(image);
+                throw ex;
+            }
+            // 체크섬 없이 서명된 예전 예약만 원본을 내려받아 직접 계산한다
+            contentHash = stored.sha256() != null ? stored.sha256() : sha256(imageStorageService.download(key));
+        } catch (RuntimeException ex) {
+            releaseLeaseQuietly(image.getId());
+            throw ex;
+        }
+
+        PostImageBlob existing = postImageBlobStore.acquire(contentHash);
+        UploadedImage uploaded;
+        if (existing != null) {
+            deleteQuietly(new StoredImageObject(key, null));
+            uploaded = new UploadedImage(existing);
+        } else {
+            uploaded = registerBlob(
+                    new PreparedUpload(contentHash, metadata, buildBaseKey(contentHash), key, null),
+                    new StoredImageObject(key, image.getImageUrl()),
+                    size
+            );
+        }
+
+        image.completeDirectUpload(uploaded.blob());
+        try {
+            postImageRepository.save(image);
+        } catch (RuntimeException ex) {
+            releaseQuietly(uploaded);
+            throw ex;
+        }
+        syncWithProcessedBlobs(List.of(uploaded), new ArrayList<>(List.of(image)));
+    }
+
+    /**
+     * 참조가 모두 사라졌지만 객체 정리가 끝나지 않은 blob이 같은 해시를 차지하고 있으면 먼저 정리하고 다시 등록한다.
+     */
+    private boolean recreateBlob(PostImageBlob blob) {
+        try {
+            PostImageBlob stale = postImageBlobStore.find(blob.getContentHash());
+            if (stale != null && stale.getRefCount() <= 0) {
+                purgeUnreferenced(List.of(stale));
+            }
+            return postImageBlobStore.create(blob);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to replace unreferenced post image blob. contentHash={}", blob.getContentHash(), ex);
+            return false;
+        }
+    }
+
+    private void discardDirectUpload(PostImage image) {
+        deleteQuietly(new StoredImageObject(image.getStorageKey(), null));
+        deleteDocumentsQuietly(List.of(image));
+    }
+
+    private void releaseLeaseQuietly(String imageId) {
+        try {
+            postImageUploadLeases.release(imageId);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to release direct upload lease. imageId={}", imageId, ex);
+        }
+    }
+
+    /**
+     * 처리 중인 blob을 참조한 이미지는 워커가 완료 시 함께 갱신하지만,
+     * 워커가 저장 직전에 끝났다면 놓치므로 저장 후 한 번 더 확인한다.
+     */
+    private void syncWithProcessedBlobs(List<UploadedImage> uploadedImages, List<PostImage> savedImages) {
+        for (int i = 0; i < savedImages.size(); i++) {
+            PostImageBlob blob = uploadedImages.get(i).blob();
+            if (blob.getProcessingStatus() != PostImageProcessingStatus.PROCESSING) {
+                continue;
+            }
+            PostImageBlob latest = postImageBlobStore.find(blob.getContentHash());
+            if (latest == null || latest.getProcessingStatus() == PostImageProcessingStatus.PROCESSING) {
+                continue;
+            }
+            // 그사이 게시글에 첨부됐을 수 있으므로 문서 전체를 덮어쓰지 않고 처리 결과만 바꾼다
+            PostImage updated = mongoTemplate.findAndModify(
+                    Query.query(Criteria.where("_id").is(savedImages.get(i).getId())
+                            .and("processingStatus").is(PostImageProcessingStatus.PROCESSING)),
+                    new Update()
+                            .set("renditions", latest.getRenditions())
+                            .set("thumbnailStorageKey", latest.getThumbnailStorageKey())
+                            .set("thumbnailUrl", latest.getThumbnailUrl())
+                            .set("processingStatus", latest.getProcessingStatus()),
+                    FindAndModifyOptions.options().returnNew(true),
+                    PostImage.class
+            );
+            if (updated != null) {
+                savedImages.set(i, updated);
+            }
+        }
+    }
+
+    private String sha256(InputStreamSource source) {
+        try (InputStream input = source.getInputStream()) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[HASH_BUFFER_SIZE];
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException ex) {
             throw new CustomException(ErrorCode.IMAGE_UPLOAD_FAILED);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
         }
     }
 
-    private void cleanupDeletedImages() {
-        Instant now = Instant.now();
-        List<PostImage> expiredImages = postImageRepository.findAllByStatusAndDeleteAfterLessThanEqual(
-                PostImageStatus.DELETED,
-                now,
-                PageRequest.of(0, CLEANUP_BATCH_SIZE)
-        );
-        deleteObjectsAndDocuments(expiredImages);
+    private List<UploadedImage> awaitUploads(List<CompletableFuture<UploadedImage>> uploads) {
+        try {
+            CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException ex) {
+            uploads.forEach(upload -> releaseQuietly(completedValue(upload)));
+            throw toUploadException(ex);
+        }
+        return uploads.stream()
+                .map(CompletableFuture::join)
+                .toList();
     }
 
-    private void cleanupTemporaryImages() {
-        Instant cutoff = Instant.now().minusSeconds(postImageProperties.getTemporaryRetentionHours() * 60 * 60);
-        List<PostImage> temporaryImages = postImageRepository.findAllByStatusAndCreatedAtBefore(
-                PostImageStatus.TEMP,
-                cutoff,
-                PageRequest.of(0, CLEANUP_BATCH_SIZE)
-        );
-        deleteObjectsAndDocuments(temporaryImages);
+    private <T> T completedValue(CompletableFuture<T> future) {
+        return future.isDone() && !future.isCompletedExceptionally() ? future.join() : null;
+    }
+
+    private CustomException toUploadException(Throwable ex) {
+        Throwable cause = ex;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof CustomException customException) {
+            return customException;
+        }
+        return new CustomException(ErrorCode.IMAGE_UPLOAD_FAILED);
     }
 
-    private void deleteObjectsAndDocuments(List<PostImage> images) {
+    private <T> void drain(
+            String target,
+            Instant deadline,
+            Supplier<List<T>> nextPage,
+            Function<List<T>, CleanupResult> deletePage
+    ) {
+        long startedAt = System.currentTimeMillis();
+        CleanupResult total = CleanupResult.EMPTY;
+        boolean drained = false;
+        try {
+            while (Instant.now().isBefore(deadline)) {
+                List<T> page = nextPage.get();
+                if (page.isEmpty()) {
+                    drained = true;
+                    break;
+                }
+                CleanupResult result = deletePage.apply(page);
+                total = total.plus(result);
+                if (page.size() < CLEANUP_BATCH_SIZE) {
+                    drained = true;
+                    break;
+                }
+                // 삭제에 실패해 남겨 둔 문서만 다시 조회되는 경우
+                if (result.images() == 0) {
+                    break;
+                }
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Post image cleanup stopped. target={}", target, ex);
+        }
+
+        long elapsedMs = System.currentTimeMillis() - startedAt;
+        if (total.images() > 0 || total.failedImages() > 0 || !drained) {
+            log.info("Post image cleanup finished. target={}, images={}, objects={}, failedImages={}, drained={}, elapsedMs={}, imagesPerSec={}",
+                    target, total.images(), total.objects(), total.failedImages(), drained, elapsedMs,
+                    elapsedMs == 0 ? total.images() : total.images() * 1000 / elapsedMs);
+        }
+    }
+
+    /**
+     * 한 페이지를 한꺼번에 지운다. 단독 소유 객체는 먼저 지우고 실패한 이미지의 문서는 다음 실행을 위해 남긴다.
+     * 내용 해시가 있는 이미지는 문서를 지우기 전에 해시별로 참조를 줄이고, 줄이지 못한 이미지의 문서는 남긴다.
+     * 참조 감소는 이미지 id 단위로 한 번만 반영되므로 문서 삭제가 실패해 다시 시도해도 된다.
+     */
+    private CleanupResult deleteObjectsAndDocuments(List<PostImage> images) {
+        List<PostImage> ownedImages = images.stream()
+                .filter(image -> image.getContentHash() == null)
+                .toList();
+        List<String> ownedKeys = ownedImages.stream()
+                .flatMap(image -> image.storageKeys().stream())
+                .toList();
+        Set<String> failedKeys = new HashSet<>(deleteObjects(ownedKeys));
+
+        Map<String, List<String>> sharedImageIds = images.stream()
+                .filter(image -> image.getContentHash() != null)
+                .collect(Collectors.groupingBy(
+                        PostImage::getContentHash,
+                        LinkedHashMap::new,
+                        Collectors.mapping(PostImage::getId, Collectors.toList())
+                ));
+        Set<String> unreleasedHashes = new HashSet<>();
+        List<PostImageBlob> unreferencedBlobs = new ArrayList<>();
+        sharedImageIds.forEach((contentHash, imageIds) -> {
+            try {
+                PostImageBlob released = postImageBlobStore.releaseImages(contentHash, imageIds);
+                if (released != null) {
+                    unreferencedBlobs.add(released);
+                }
+            } catch (RuntimeException ex) {
+                log.warn("Failed to release post image blob. contentHash={}, images={}", contentHash, imageIds.size(), ex);
+                unreleasedHashes.add(contentHash);
+            }
+        });
+
+        List<String> deletableIds = new ArrayList<>();
+        int failedImages = 0;
         for (PostImage image : images) {
+            boolean failed = image.getContentHash() == null
+                    ? image.storageKeys().stream().anyMatch(failedKeys::contains)
+                    : unreleasedHashes.contains(image.getContentHash());
+            if (failed) {
+                log.warn("Post image cleanup failed. imageId={}, postId={}", image.getId(), image.getPostId());
+                failedImages++;
+                continue;
+            }
+            deletableIds.add(image.getId());
+        }
+        postImageRepository.deleteAllById(deletableIds);
+
+        sharedImageIds.forEach((contentHash, imageIds) -> {
+            if (!unreleasedHashes.contains(contentHash)) {
+                completeReleaseQuietly(contentHash, imageIds);
+            }
+        });
+        CleanupResult purged = purgeUnreferenced(unreferencedBlobs);
+
+        return new CleanupResult(
+                deletableIds.size(),
+                ownedKeys.size() - failedKeys.size() + purged.objects(),
+                failedImages
+        );
+    }
+
+    /**
+     * 참조가 모두 사라진 blob의 스토리지 객체를 지우고, 객체를 모두 지운 blob만 문서를 지운다.
+     * 남은 문서는 다음 정리 때 findUnreferenced로 다시 찾는다.
+     */
+    private CleanupResult purgeUnreferenced(List<PostImageBlob> blobs) {
+        List<String> keys = blobs.stream()
+                .flatMap(blob -> blob.storageKeys().stream())
+                .toList();
+        Set<String> failedKeys = new HashSet<>(deleteObjects(keys));
+
+        int removed = 0;
+        int failedBlobs = 0;
+        for (PostImageBlob blob : blobs) {
+            if (blob.storageKeys().stream().anyMatch(failedKeys::contains)) {
+                log.warn("Failed to delete unreferenced post image objects, will retry. contentHash={}", blob.getContentHash());
+                failedBlobs++;
+                continue;
+            }
             try {
-                imageStorageService.delete(image.getStorageKey());
-                imageStorageService.delete(image.getThumbnailStorageKey());
-                postImageRepository.delete(image);
+                postImageBlobStore.remove(blob.getContentHash());
+                removed++;
             } catch (RuntimeException ex) {
-                log.warn("Post image cleanup failed. imageId={}, postId={}", image.getId(), image.getPostId(), ex);
+                log.warn("Failed to remove unreferenced post image blob. contentHash={}", blob.getContentHash(), ex);
+                failedBlobs++;
             }
         }
+        return new CleanupResult(removed, keys.size() - failedKeys.size(), failedBlobs);
+    }
+
+    private void completeReleaseQuietly(String contentHash, List<String> imageIds) {
+        try {
+            postImageBlobStore.completeRelease(contentHash, imageIds);
+        } catch (RuntimeException ex) {
+            // 남은 표시는 해당 이미지 문서가 이미 없으므로 다시 쓰이지 않는다
+            log.warn("Failed to clear pending post image blob releases. contentHash={}", contentHash, ex);
+        }
+    }
+
+    private List<String> deleteObjects(List<String> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        try {
+            return imageStorageService.deleteAll(keys);
+        } catch (RuntimeException ex) {
+            log.warn("Post image object batch delete failed. keys={}", keys.size(), ex);
+            return keys;
+        }
     }
 
     private PostImage resolveAttachableImage(Map<String, PostImage> imagesById, String imageId) {
@@ -193,6 +707,9 @@ public class PostImageService {
         if (image.getStatus() != PostImageStatus.TEMP) {
             throw new CustomException(ErrorCode.IMAGE_ALREADY_ATTACHED);
         }
+        if (image.getProcessingStatus() == PostImageProcessingStatus.UPLOADING) {
+            throw new CustomException(ErrorCode.IMAGE_NOT_UPLOADED);
+        }
         return image;
     }
 
@@ -218,14 +735,17 @@ public class PostImageService {
         }
     }
 
-    private String buildBaseKey(String userId) {
-        LocalDate today = LocalDate.now(KST);
-        return userId + "/" + today.getYear() + "/" + pad(today.getMonthValue()) + "/" + pad(today.getDayOfMonth())
-                + "/" + UUID.randomUUID();
+    /**
+     * 저장 키는 내용 해시로 만들고 올린 사용자를 담지 않는다. 중복 제거로 같은 키가 다른 사용자에게도 내려가기 때문이다.
+     * 같은 내용이 동시에 올라오거나 정리 대기 중인 blob과 겹쳐도 서로의 객체를 지우지 않도록 업로드마다 접미사를 붙인다.
+     */
+    private String buildBaseKey(String contentHash) {
+        return contentHash.substring(0, 2) + "/" + contentHash + "-" + UUID.randomUUID();
     }
 
-    private String pad(int value) {
-        return value < 10 ? "0" + value : String.valueOf(value);
+    // 서명에 쓰는 base64 체크섬을 blob 해시와 같은 hex로 바꾼다
+    private String toHex(String base64Sha256) {
+        return HexFormat.of().formatHex(Base64.getDecoder().decode(base64Sha256));
     }
 
     private void deleteQuietly(StoredImageObject object) {
@@ -239,12 +759,69 @@ public class PostImageService {
         }
     }
 
-    private void deleteObjectsQuietly(PostImage image) {
+    private void deleteDocumentsQuietly(List<PostImage> images) {
+        try {
+            postImageRepository.deleteAll(images);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to rollback saved post images. count={}", images.size(), ex);
+        }
+    }
+
+    private void releaseQuietly(UploadedImage uploadedImage) {
+        if (uploadedImage != null) {
+            releaseQuietly(uploadedImage.blob().getContentHash());
+        }
+    }
+
+    private void releaseQuietly(String contentHash) {
         try {
-            imageStorageService.delete(image.getStorageKey());
-            imageStorageService.delete(image.getThumbnailStorageKey());
+            PostImageBlob released = postImageBlobStore.release(contentHash, 1);
+            if (released != null) {
+                purgeUnreferenced(List.of(released));
+            }
         } catch (RuntimeException ex) {
-            log.warn("Failed to rollback uploaded image objects. imageId={}", image.getId(), ex);
+            log.warn("Failed to release post image blob. contentHash={}", contentHash, ex);
+        }
+    }
+
+    private record CleanupResult(long images, long objects, long failedImages) {
+
+        static final CleanupResult EMPTY = new CleanupResult(0, 0, 0);
+
+        CleanupResult plus(CleanupResult other) {
+            return new CleanupResult(images + other.images, objects + other.objects, failedImages + other.failedImages);
+        }
+    }
+
+    private record PreparedUpload(
+            String contentHash,
+            ImageMetadata metadata,
+            String baseKey,
+            String originalKey,
+            PostImageBlob existing
+    ) {
+    }
+
+    private record UploadedImage(PostImageBlob blob) {
+
+        // id를 미리 정해 저장하면 새 문서로 보지 않아 @CreatedDate가 채워지지 않으므로 직접 넘긴다
+        PostImage toPostImage(String id, String userId, Instant createdAt) {
+            return PostImage.builder()
+                    .id(id)
+                    .userId(userId)
+                    .contentHash(blob.getContentHash())
+                    .storageKey(blob.getStorageKey())
+                    .thumbnailStorageKey(blob.getThumbnailStorageKey())
+                    .imageUrl(blob.getImageUrl())
+                    .thumbnailUrl(blob.getThumbnailUrl())
+                    .renditions(new ArrayList<>(blob.getRenditions()))
+                    .contentType(blob.getContentType())
+                    .size(blob.getSize())
+                    .width(blob.getWidth())
+                    .height(blob.getHeight())
+                    .processingStatus(blob.getProcessingStatus())
+                    .createdAt(createdAt)
+                    .build();
         }
     }
 }
@@ -0,0 +1,50 @@
+package org.example.moomyeongso.domain.postimage.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 이미지 디코딩/썸네일 생성과 스토리지 업로드를 파일별로 동시에 실행하기 위한 전용 풀.
+ * 디코딩은 메모리를 많이 쓰므로 최대 스레드 수로 동시 처리량을 제한하고,
+ * 풀이 포화되면 호출 스레드에서 직접 실행해 기존 순차 처리와 같은 동작으로 돌아간다.
+ */
+@Component
+public class PostImageUploadExecutor implements Executor {
+
+    private static final int CORE_POOL_SIZE = 4;
+    private static final int MAX_POOL_SIZE = 16;
+    private static final int QUEUE_CAPACITY = 100;
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            CORE_POOL_SIZE,
+            MAX_POOL_SIZE,
+            KEEP_ALIVE_SECONDS,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+            new CustomizableThreadFactory("post-image-"),
+            new ThreadPoolExecutor.CallerRunsPolicy()
+    );
+
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(supplier, executor);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        executor.execute(command);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,10 @@
+package org.example.moomyeongso.domain.postimage.service;
+
+public record ProcessedRendition(
+        int size,
+        int width,
+        int height,
+        ImageFormat format,
+        byte[] bytes
+) {
+}
@@ -1,9 +1,80 @@
 package org.example.moomyeongso.domain.postimage.storage;
 
+import org.example.moomyeongso.common.exception.CustomException;
+import org.example.moomyeongso.common.exception.ErrorCode;
+import org.springframework.core.io.InputStreamSource;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 public interface ImageStorageService {
 
     StoredImageObject upload(byte[] bytes, String key, String contentType);
 
+    /**
+     * 내용을 메모리에 모으지 않고 스트림으로 업로드한다. 재시도 시 source에서 스트림을 다시 연다.
+     */
+    StoredImageObject upload(InputStreamSource source, long contentLength, String key, String contentType);
+
+    /**
+     * 전송이 끝날 때까지 호출 스레드를 막지 않는 업로드. 기본 구현은 동기 업로드를 감싼다.
+     */
+    default CompletableFuture<StoredImageObject> uploadAsync(byte[] bytes, String key, String contentType) {
+        try {
+            return CompletableFuture.completedFuture(upload(bytes, key, contentType));
+        } catch (RuntimeException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+
+    default CompletableFuture<StoredImageObject> uploadAsync(
+            InputStreamSource source,
+            long contentLength,
+            String key,
+            String contentType
+    ) {
+        try {
+            return CompletableFuture.completedFuture(upload(source, contentLength, key, contentType));
+        } catch (RuntimeException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+
+    /**
+     * 클라이언트가 애플리케이션 서버를 거치지 않고 올릴 수 있는 서명된 PUT 요청을 만든다.
+     * contentType, contentLength와 SHA-256 체크섬(base64)이 서명에 포함되므로 다른 내용으로는 올릴 수 없다.
+     */
+    default PresignedUpload presignUpload(
+            String key,
+            String contentType,
+            long contentLength,
+            String sha256,
+            Duration expiresIn
+    ) {
+        throw new CustomException(ErrorCode.DIRECT_UPLOAD_NOT_SUPPORTED);
+    }
+
+    /**
+     * 저장된 객체의 크기와 저장소가 검증한 체크섬. 객체가 없으면 null.
+     */
+    StoredObjectMetadata findMetadata(String key);
+
+    /**
+     * 저장된 객체를 읽는 소스. 스트림을 열 때마다 새로 내려받는다.
+     */
+    InputStreamSource download(String key);
+
+    /**
+     * 저장된 객체의 앞부분을 최대 length 바이트만 읽는다. 형식과 크기 확인처럼 원본 전체가 필요 없을 때 쓴다.
+     */
+    byte[] readHead(String key, int length);
+
     void delete(String key);
-}
 
+    /**
+     * 여러 객체를 한 번에 지운다. 삭제하지 못한 키를 반환한다.
+     */
+    List<String> deleteAll(Collection<String> keys);
+}
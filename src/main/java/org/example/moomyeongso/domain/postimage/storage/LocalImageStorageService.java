@@ -0,0 +1,165 @@
+package org.example.moomyeongso.domain.postimage.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.moomyeongso.common.config.LocalStorageProperties;
+import org.example.moomyeongso.common.exception.CustomException;
+import org.example.moomyeongso.common.exception.ErrorCode;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 파일시스템 저장소. 키의 SHA-256으로 두 단계 샤딩 디렉터리(ab/cd/)를 만들어 한 디렉터리에 파일이 몰리지 않게 하고,
+ * 같은 파일시스템의 임시 파일에 다 쓴 뒤 rename으로 교체해 읽는 쪽이 쓰다 만 파일을 보지 않게 한다.
+ * 키 자체는 경로로 쓰지 않으므로 URL로 들어온 키로 루트 밖을 가리킬 수 없다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "local")
+public class LocalImageStorageService implements ImageStorageService {
+
+    private static final String TEMP_DIR = ".tmp";
+
+    private final Path root;
+    private final Path tempDir;
+    private final String publicBaseUrl;
+
+    public LocalImageStorageService(LocalStorageProperties properties) throws IOException {
+        this.root = Path.of(properties.getRootDir()).toAbsolutePath().normalize();
+        this.tempDir = root.resolve(TEMP_DIR);
+        this.publicBaseUrl = properties.getPublicBaseUrl().replaceAll("/+$", "");
+        Files.createDirectories(tempDir);
+    }
+
+    @Override
+    public StoredImageObject upload(byte[] bytes, String key, String contentType) {
+        return write(key, () -> new ByteArrayInputStream(bytes));
+    }
+
+    @Override
+    public StoredImageObject upload(InputStreamSource source, long contentLength, String key, String contentType) {
+        return write(key, source);
+    }
+
+    @Override
+    public StoredObjectMetadata findMetadata(String key) {
+        Path file = resolve(key);
+        try {
+            // 직접 업로드를 지원하지 않으므로 검증된 체크섬도 없다
+            return new StoredObjectMetadata(Files.size(file), null);
+        } catch (NoSuchFileException ex) {
+            return null;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public InputStreamSource download(String key) {
+        Path file = resolve(key);
+        return () -> {
+            try {
+                return Files.newInputStream(file);
+            } catch (NoSuchFileException ex) {
+                throw new CustomException(ErrorCode.POST_IMAGE_NOT_FOUND);
+            }
+        };
+    }
+
+    @Override
+    public byte[] readHead(String key, int length) {
+        try (InputStream input = Files.newInputStream(resolve(key))) {
+            return input.readNBytes(length);
+        } catch (NoSuchFileException ex) {
+            throw new CustomException(ErrorCode.POST_IMAGE_NOT_FOUND);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        if (!StringUtils.hasText(key)) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public List<String> deleteAll(Collection<String> keys) {
+        List<String> failedKeys = new ArrayList<>();
+        for (String key : keys) {
+            try {
+                delete(key);
+            } catch (UncheckedIOException ex) {
+                failedKeys.add(key);
+            }
+        }
+        return failedKeys;
+    }
+
+    /**
+     * 키가 저장되는 파일 경로. 확장자는 서빙 시 Content-Type 판별을 위해 키의 것을 유지한다.
+     */
+    public Path resolve(String key) {
+        String hash = sha256(key);
+        String extension = StringUtils.getFilenameExtension(key);
+        String fileName = extension == null ? hash : hash + "." + extension;
+        return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(fileName);
+    }
+
+    private StoredImageObject write(String key, InputStreamSource source) {
+        Path target = resolve(key);
+        Path temp = tempDir.resolve(UUID.randomUUID() + ".tmp");
+        try {
+            try (InputStream input = source.getInputStream()) {
+                Files.copy(input, temp);
+            }
+            Files.createDirectories(target.getParent());
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return new StoredImageObject(key, publicBaseUrl + "/" + key);
+        } catch (IOException ex) {
+            deleteTempQuietly(temp);
+            throw new CustomException(ErrorCode.IMAGE_UPLOAD_FAILED);
+        }
+    }
+
+    private void deleteTempQuietly(Path temp) {
+        try {
+            Files.deleteIfExists(temp);
+        } catch (IOException ex) {
+            log.warn("Failed to delete temporary image file. path={}", temp);
+        }
+    }
+
+    private String sha256(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
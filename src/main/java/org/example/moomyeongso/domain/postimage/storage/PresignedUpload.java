@@ -0,0 +1,15 @@
+package org.example.moomyeongso.domain.postimage.storage;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 클라이언트가 저장소로 직접 PUT할 수 있는 서명된 요청. headers는 서명에 포함돼 그대로 보내야 한다.
+ */
+public record PresignedUpload(
+        String uploadUrl,
+        String objectUrl,
+        Map<String, String> headers,
+        Instant expiresAt
+) {
+}
@@ -1,23 +1,92 @@
 package org.example.moomyeongso.domain.postimage.storage;
 
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import org.example.moomyeongso.common.config.aws.S3StorageProperties;
 import org.example.moomyeongso.common.exception.CustomException;
 import org.example.moomyeongso.common.exception.ErrorCode;
+import org.example.moomyeongso.common.exception.ServerBusyException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.InputStreamSource;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.ContentStreamProvider;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.ChecksumMode;
+import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "s3", matchIfMissing = true)
 public class S3ImageStorageService implements ImageStorageService {
 
+    private static final int MAX_KEYS_PER_DELETE = 1000;
+    private static final String CACHE_CONTROL = "public, max-age=31536000";
+    private static final int STREAM_READ_MAX_THREADS = 32;
+    private static final int STREAM_READ_QUEUE_CAPACITY = 100;
+    private static final long STREAM_UPLOAD_RETRY_AFTER_SECONDS = 2;
+
     private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
+    private final S3Presigner s3Presigner;
     private final S3StorageProperties properties;
 
+    // 스트림 업로드에서 InputStream을 읽어 Netty로 넘기는 스레드. 전송 대기 중에는 SDK가 읽기를 멈추므로(back-pressure)
+    // 읽기 작업은 업로드가 끝날 때까지 스레드를 잡는다. 구독은 SDK/Netty 스레드에서도 일어나므로 호출 스레드에서
+    // 대신 읽으면 안 되고, 동시에 진행하는 스트림 업로드 수를 streamUploadPermits로 풀 용량 안에 묶는다
+    private final ThreadPoolExecutor streamReadExecutor = new ThreadPoolExecutor(
+            4,
+            STREAM_READ_MAX_THREADS,
+            60L,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(STREAM_READ_QUEUE_CAPACITY),
+            new CustomizableThreadFactory("s3-upload-read-"),
+            new ThreadPoolExecutor.AbortPolicy()
+    );
+    private final Semaphore streamUploadPermits = new Semaphore(STREAM_READ_MAX_THREADS + STREAM_READ_QUEUE_CAPACITY);
+
     @Override
     public StoredImageObject upload(byte[] bytes, String key, String contentType) {
         try {
@@ -26,7 +95,7 @@ public class S3ImageStorageService implements ImageStorageService {
                     .key(key)
                     .contentType(contentType)
                     .contentLength((long) bytes.length)
-                    .cacheControl("public, max-age=31536000")
+                    .cacheControl(CACHE_CONTROL)
                     .build();
 
             s3Client.putObject(request, RequestBody.fromBytes(bytes));
@@ -36,6 +105,181 @@ public class S3ImageStorageService implements ImageStorageService {
         }
     }
 
+    @Override
+    public StoredImageObject upload(InputStreamSource source, long contentLength, String key, String contentType) {
+        try {
+            PutObjectRequest request = PutObjectRequest.builder()
+                    .bucket(resolveBucket())
+                    .key(key)
+                    .contentType(contentType)
+                    .contentLength(contentLength)
+                    .cacheControl(CACHE_CONTROL)
+                    .build();
+
+            ContentStreamProvider provider = () -> {
+                try {
+                    return source.getInputStream();
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            };
+            s3Client.putObject(request, RequestBody.fromContentProvider(provider, contentLength, contentType));
+            return new StoredImageObject(key, resolveUrl(key));
+        } catch (RuntimeException ex) {
+            throw new CustomException(ErrorCode.IMAGE_UPLOAD_FAILED);
+        }
+    }
+
+    @Override
+    public CompletableFuture<StoredImageObject> uploadAsync(byte[] bytes, String key, String contentType) {
+        return putObjectAsync(key, contentType, bytes.length, AsyncRequestBody.fromBytes(bytes));
+    }
+
+    /**
+     * 임계값 이상이면 클라이언트가 multipart로 나눠 병렬 전송한다.
+     * 읽기 풀이 가득 차 있으면 기다리지 않고 503(Retry-After)으로 실패한 future를 돌려준다.
+     */
+    @Override
+    public CompletableFuture<StoredImageObject> uploadAsync(
+            InputStreamSource source,
+            long contentLength,
+            String key,
+            String contentType
+    ) {
+        if (!streamUploadPermits.tryAcquire()) {
+            return CompletableFuture.failedFuture(
+                    new ServerBusyException(ErrorCode.IMAGE_UPLOAD_BUSY, STREAM_UPLOAD_RETRY_AFTER_SECONDS));
+        }
+        CompletableFuture<StoredImageObject> upload;
+        try {
+            upload = putObjectAsync(key, contentType, contentLength, new ReopeningStreamBody(source, contentLength, contentType));
+        } catch (RuntimeException ex) {
+            streamUploadPermits.release();
+            throw ex;
+        }
+        return upload.whenComplete((stored, ex) -> streamUploadPermits.release());
+    }
+
+    private CompletableFuture<StoredImageObject> putObjectAsync(
+            String key,
+            String contentType,
+            long contentLength,
+            AsyncRequestBody body
+    ) {
+        PutObjectRequest request;
+        try {
+            request = PutObjectRequest.builder()
+                    .bucket(resolveBucket())
+                    .key(key)
+                    .contentType(contentType)
+                    .contentLength(contentLength)
+                    .cacheControl(CACHE_CONTROL)
+                    .build();
+        } catch (CustomException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+
+        return s3AsyncClient.putObject(request, body).handle((response, ex) -> {
+            if (ex != null) {
+                throw new CompletionException(new CustomException(ErrorCode.IMAGE_UPLOAD_FAILED));
+            }
+            return new StoredImageObject(key, resolveUrl(key));
+        });
+    }
+
+    @Override
+    public PresignedUpload presignUpload(
+            String key,
+            String contentType,
+            long contentLength,
+            String sha256,
+            Duration expiresIn
+    ) {
+        // x-amz-checksum-sha256가 서명에 들어가 S3가 받은 내용을 검증하고, 확정할 때 HeadObject로 다시 읽는다
+        PutObjectRequest request = PutObjectRequest.builder()
+                .bucket(resolveBucket())
+                .key(key)
+                .contentType(contentType)
+                .contentLength(contentLength)
+                .checksumSHA256(sha256)
+                .cacheControl(CACHE_CONTROL)
+                .build();
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(expiresIn)
+                .putObjectRequest(request)
+                .build());
+
+        // Host는 클라이언트가 URL에서 채우므로 돌려주지 않는다
+        Map<String, String> headers = new LinkedHashMap<>();
+        presigned.signedHeaders().forEach((name, values) -> {
+            if (!"host".equalsIgnoreCase(name)) {
+                headers.put(name, String.join(",", values));
+            }
+        });
+        return new PresignedUpload(presigned.url().toString(), resolveUrl(key), headers, presigned.expiration());
+    }
+
+    @Override
+    public StoredObjectMetadata findMetadata(String key) {
+        try {
+            HeadObjectResponse response = s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(resolveBucket())
+                    .key(key)
+                    .checksumMode(ChecksumMode.ENABLED)
+                    .build());
+            return new StoredObjectMetadata(response.contentLength(), toHexSha256(response.checksumSHA256()));
+        } catch (NoSuchKeyException ex) {
+            return null;
+        }
+    }
+
+    // multipart 업로드의 합성 체크섬("...-N")은 내용 해시가 아니므로 쓰지 않는다
+    private static String toHexSha256(String checksum) {
+        if (checksum == null || checksum.indexOf('-') >= 0) {
+            return null;
+        }
+        try {
+            byte[] digest = Base64.getDecoder().decode(checksum);
+            return digest.length == 32 ? HexFormat.of().formatHex(digest) : null;
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    @Override
+    public InputStreamSource download(String key) {
+        GetObjectRequest request = GetObjectRequest.builder()
+                .bucket(resolveBucket())
+                .key(key)
+                .build();
+        return () -> {
+            try {
+                return new AbortOnEarlyCloseInputStream(s3Client.getObject(request));
+            } catch (NoSuchKeyException ex) {
+                throw new CustomException(ErrorCode.POST_IMAGE_NOT_FOUND);
+            }
+        };
+    }
+
+    /**
+     * Range GET으로 앞부분만 내려받는다. 응답 본문이 length 이하라 끝까지 읽고 닫는다.
+     */
+    @Override
+    public byte[] readHead(String key, int length) {
+        GetObjectRequest request = GetObjectRequest.builder()
+                .bucket(resolveBucket())
+                .key(key)
+                .range("bytes=0-" + (length - 1))
+                .build();
+        try (InputStream input = s3Client.getObject(request)) {
+            return input.readNBytes(length);
+        } catch (NoSuchKeyException ex) {
+            throw new CustomException(ErrorCode.POST_IMAGE_NOT_FOUND);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
     @Override
     public void delete(String key) {
         if (!StringUtils.hasText(key)) {
@@ -49,6 +293,42 @@ public class S3ImageStorageService implements ImageStorageService {
         s3Client.deleteObject(request);
     }
 
+    /**
+     * DeleteObjects 한 번에 최대 1000개까지 지운다. 요청 자체가 실패한 묶음은 전부 실패로 돌려준다.
+     */
+    @Override
+    public List<String> deleteAll(Collection<String> keys) {
+        List<String> targets = keys.stream()
+                .filter(StringUtils::hasText)
+                .distinct()
+                .toList();
+        List<String> failedKeys = new ArrayList<>();
+        for (int from = 0; from < targets.size(); from += MAX_KEYS_PER_DELETE) {
+            List<String> chunk = targets.subList(from, Math.min(from + MAX_KEYS_PER_DELETE, targets.size()));
+            DeleteObjectsRequest request = DeleteObjectsRequest.builder()
+                    .bucket(resolveBucket())
+                    .delete(Delete.builder()
+                            .objects(chunk.stream()
+                                    .map(key -> ObjectIdentifier.builder().key(key).build())
+                                    .toList())
+                            .quiet(true)
+                            .build())
+                    .build();
+            try {
+                DeleteObjectsResponse response = s3Client.deleteObjects(request);
+                response.errors().forEach(error -> failedKeys.add(error.key()));
+            } catch (SdkException ex) {
+                failedKeys.addAll(chunk);
+            }
+        }
+        return failedKeys;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        streamReadExecutor.shutdown();
+    }
+
     private String resolveBucket() {
         String bucket = properties.getS3().getBucket();
         if (!StringUtils.hasText(bucket)) {
@@ -64,5 +344,88 @@ public class S3ImageStorageService implements ImageStorageService {
         }
         return "https://" + resolveBucket() + ".s3." + properties.getRegion() + ".amazonaws.com/" + key;
     }
-}
 
+    /**
+     * 구독할 때마다 source에서 스트림을 새로 연다. 재시도나 multipart 재전송에서도 처음부터 다시 읽을 수 있다.
+     */
+    private final class ReopeningStreamBody implements AsyncRequestBody {
+
+        private final InputStreamSource source;
+        private final long contentLength;
+        private final String contentType;
+
+        private ReopeningStreamBody(InputStreamSource source, long contentLength, String contentType) {
+            this.source = source;
+            this.contentLength = contentLength;
+            this.contentType = contentType;
+        }
+
+        @Override
+        public Optional<Long> contentLength() {
+            return Optional.of(contentLength);
+        }
+
+        @Override
+        public String contentType() {
+            return contentType;
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+            InputStream input;
+            try {
+                input = source.getInputStream();
+            } catch (IOException ex) {
+                subscriber.onSubscribe(new Subscription() {
+                    @Override
+                    public void request(long n) {
+                    }
+
+                    @Override
+                    public void cancel() {
+                    }
+                });
+                subscriber.onError(ex);
+                return;
+            }
+            AsyncRequestBody.fromInputStream(input, contentLength, streamReadExecutor).subscribe(subscriber);
+        }
+    }
+
+    /**
+     * 끝까지 읽지 않고 닫으면 연결을 끊는다. 기본 close()는 남은 본문을 모두 내려받은 뒤 연결을 재사용하므로,
+     * 헤더만 읽고 멈춘 원본 다운로드가 파일 전체를 API 노드로 끌어오게 된다.
+     */
+    private static final class AbortOnEarlyCloseInputStream extends FilterInputStream {
+
+        private final ResponseInputStream<GetObjectResponse> response;
+        private boolean finished;
+
+        private AbortOnEarlyCloseInputStream(ResponseInputStream<GetObjectResponse> response) {
+            super(response);
+            this.response = response;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            finished |= value < 0;
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            finished |= read < 0;
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!finished) {
+                response.abort();
+            }
+            super.close();
+        }
+    }
+}
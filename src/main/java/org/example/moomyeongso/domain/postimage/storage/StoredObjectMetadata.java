@@ -0,0 +1,10 @@
+package org.example.moomyeongso.domain.postimage.storage;
+
+/**
+ * 저장된 객체의 크기와 내용 해시(SHA-256, hex). 저장소가 검증한 체크섬이 없으면 sha256은 null.
+ */
+public record StoredObjectMetadata(
+        long contentLength,
+        String sha256
+) {
+}
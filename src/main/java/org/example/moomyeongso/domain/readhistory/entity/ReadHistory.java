@@ -3,6 +3,7 @@ package org.example.moomyeongso.domain.readhistory.entity;
 import lombok.*;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -12,9 +13,13 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @Document(collection = "read_history")
-@CompoundIndex(name = "user_post_unique",
-        def = "{'userId': 1, 'postId': 1}",
-        unique = true)
+@CompoundIndexes({
+        @CompoundIndex(name = "user_post_unique",
+                def = "{'userId': 1, 'postId': 1}",
+                unique = true),
+        @CompoundIndex(name = "user_read_at_id_desc_idx",
+                def = "{'userId': 1, 'readAt': -1, '_id': -1}")
+})
 public class ReadHistory {
 
     @Id
@@ -0,0 +1,95 @@
+package org.example.moomyeongso.domain.readhistory.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.example.moomyeongso.domain.post.entity.Post;
+import org.example.moomyeongso.domain.post.entity.PostStatus;
+import org.example.moomyeongso.domain.post.entity.PostType;
+import org.example.moomyeongso.domain.readhistory.entity.ReadHistory;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 열람 기록 기준 커서 조회. read_history를 (readAt, _id) 역순 인덱스로 훑으면서
+ * 게시글을 $lookup으로 붙이고, 상태/타입 필터도 $lookup 안에서 처리한다.
+ * 파이프라인은 순차 처리되므로 $limit 개수를 채우면 더 이상 열람 기록을 읽지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReadPostFinder {
+
+    private static final String[] PREVIEW_EXCLUDED_FIELDS = {"content", "images"};
+
+    private final MongoTemplate mongoTemplate;
+
+    public List<ReadPost> findReadPostPage(
+            String userId,
+            PostStatus status,
+            PostType type,
+            LocalDateTime cursorReadAt,
+            ObjectId cursorId,
+            int size
+    ) {
+        Criteria criteria = Criteria.where("userId").is(userId);
+        if (cursorReadAt != null && cursorId != null) {
+            criteria.orOperator(
+                    Criteria.where("readAt").lt(cursorReadAt),
+                    Criteria.where("readAt").is(cursorReadAt).and("_id").lt(cursorId)
+            );
+        }
+
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(criteria),
+                Aggregation.sort(Sort.by(Sort.Direction.DESC, "readAt", "_id")),
+                lookupPost(status, type),
+                Aggregation.unwind("post"),
+                Aggregation.limit(size)
+        );
+
+        return mongoTemplate.aggregate(
+                aggregation,
+                mongoTemplate.getCollectionName(ReadHistory.class),
+                ReadPost.class
+        ).getMappedResults();
+    }
+
+    // read_history.postId는 문자열이라 ObjectId로 변환해 posts._id 인덱스로 조인한다
+    private AggregationOperation lookupPost(PostStatus status, PostType type) {
+        Document postMatch = new Document("$expr", new Document("$eq", List.of("$_id", "$$postId")))
+                .append("status", status.name());
+        if (type != null) {
+            postMatch.append("type", type.name());
+        }
+
+        Document excludedFields = new Document();
+        for (String field : PREVIEW_EXCLUDED_FIELDS) {
+            excludedFields.append(field, 0);
+        }
+
+        Document toObjectId = new Document("$convert", new Document("input", "$postId")
+                .append("to", "objectId")
+                .append("onError", null)
+                .append("onNull", null));
+
+        Document lookup = new Document("from", mongoTemplate.getCollectionName(Post.class))
+                .append("let", new Document("postId", toObjectId))
+                .append("pipeline", List.of(
+                        new Document("$match", postMatch),
+                        new Document("$project", excludedFields)
+                ))
+                .append("as", "post");
+        return context -> new Document("$lookup", lookup);
+    }
+
+    public record ReadPost(@Id String id, LocalDateTime readAt, Post post) {
+    }
+}
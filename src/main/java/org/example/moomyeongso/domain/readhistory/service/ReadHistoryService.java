@@ -1,15 +1,16 @@
 package org.example.moomyeongso.domain.readhistory.service;
 
 import lombok.RequiredArgsConstructor;
-import org.example.moomyeongso.domain.post.dto.response.PostPreviewListResponse;
+import org.bson.types.ObjectId;
+import org.example.moomyeongso.common.exception.CustomException;
+import org.example.moomyeongso.common.exception.ErrorCode;
+import org.example.moomyeongso.domain.post.dto.response.PostPreviewCursorListResponse;
 import org.example.moomyeongso.domain.post.dto.response.PostPreviewResponseDto;
-import org.example.moomyeongso.domain.post.entity.Post;
 import org.example.moomyeongso.domain.post.entity.PostStatus;
 import org.example.moomyeongso.domain.post.entity.PostType;
-import org.example.moomyeongso.domain.post.repository.PostRepository;
-import org.example.moomyeongso.domain.post.service.PostCommentService;
 import org.example.moomyeongso.domain.readhistory.entity.ReadHistory;
 import org.example.moomyeongso.domain.readhistory.repository.ReadHistoryRepository;
+import org.example.moomyeongso.domain.readhistory.repository.ReadPostFinder;
 import org.example.moomyeongso.domain.user.service.CoinService;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
@@ -17,29 +18,33 @@ import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.function.Predicate;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 @Service
 @RequiredArgsConstructor
 public class ReadHistoryService {
 
+    private static final int DEFAULT_READ_POST_LIMIT = 20;
+    private static final int MAX_READ_POST_LIMIT = 100;
+
     private final ReadHistoryRepository readHistoryRepository;
-    private final PostRepository postRepository;
+    private final ReadPostFinder readPostFinder;
     private final CoinService coinService;
     private final MongoTemplate mongoTemplate;
-    private final PostCommentService postCommentService;
+    private final ReadPostFilterCache readPostFilterCache;
 
     /**
      * 내가 열람한 일기 목록 조회
      */
     @Transactional(readOnly = true)
-    public PostPreviewListResponse getMyReadPosts(String userId) {
+    public PostPreviewCursorListResponse getMyReadPosts(String userId) {
         return getMyReadPosts(userId, null);
     }
 
@@ -47,35 +52,39 @@ public class ReadHistoryService {
      * 내가 열람한 일기 목록 조회(타입 필터)
      */
     @Transactional(readOnly = true)
-    public PostPreviewListResponse getMyReadPosts(String userId, PostType type) {
-        int coin = coinService.getCoin(userId);
-
-        List<ReadHistory> histories = readHistoryRepository.findAllByUserIdOrderByReadAtDesc(userId);
-
-        List<String> postIds = histories.stream()
-                .map(ReadHistory::getPostId)
-                .toList();
+    public PostPreviewCursorListResponse getMyReadPosts(String userId, PostType type) {
+        return getMyReadPosts(userId, type, null, DEFAULT_READ_POST_LIMIT);
+    }
 
-        Map<String, Post> postMap = postRepository.findAllById(postIds)
-                .stream()
-                .collect(Collectors.toMap(Post::getId, Function.identity()));
+    /**
+     * 내가 열람한 일기 목록 조회(타입 필터, 커서).
+     * cursor는 마지막으로 받은 항목의 "열람시각(epoch ms):열람기록 id"이며 응답의 nextCursor를 그대로 전달한다.
+     */
+    @Transactional(readOnly = true)
+    public PostPreviewCursorListResponse getMyReadPosts(String userId, PostType type, String cursor, int limit) {
+        if (limit <= 0 || limit > MAX_READ_POST_LIMIT) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
 
-        List<Post> filteredPosts = histories.stream()
-                .map(history -> postMap.get(history.getPostId()))
-                .filter(Objects::nonNull)
-                .filter(post -> post.getStatus() == PostStatus.ACTIVE)
-                .filter(post -> type == null || post.getType() == type)
-                .toList();
+        int coin = coinService.getCoin(userId);
 
-        Map<String, Long> commentCounts = postCommentService.getActiveCommentCounts(
-                filteredPosts.stream().map(Post::getId).toList()
+        ReadCursor readCursor = ReadCursor.parse(cursor);
+        List<ReadPostFinder.ReadPost> fetched = readPostFinder.findReadPostPage(
+                userId,
+                PostStatus.ACTIVE,
+                type,
+                readCursor == null ? null : readCursor.readAt(),
+                readCursor == null ? null : readCursor.historyId(),
+                limit + 1
         );
+        boolean hasNext = fetched.size() > limit;
+        List<ReadPostFinder.ReadPost> page = hasNext ? fetched.subList(0, limit) : fetched;
 
-        List<PostPreviewResponseDto> posts = filteredPosts.stream()
-                .map(post -> PostPreviewResponseDto.from(post, commentCounts.getOrDefault(post.getId(), 0L)))
+        List<PostPreviewResponseDto> posts = page.stream()
+                .map(readPost -> PostPreviewResponseDto.from(readPost.post()))
                 .toList();
-
-        return PostPreviewListResponse.of(posts, coin);
+        String nextCursor = hasNext ? ReadCursor.of(page.get(page.size() - 1)).format() : null;
+        return PostPreviewCursorListResponse.of(posts, coin, nextCursor);
     }
 
     /**
@@ -96,6 +105,64 @@ public class ReadHistoryService {
                 .setOnInsert("userId", userId)
                 .setOnInsert("postId", postId)
                 .set("readAt", now);
-        return mongoTemplate.upsert(q, u, ReadHistory.class).getUpsertedId() != null;
+        boolean firstRead = mongoTemplate.upsert(q, u, ReadHistory.class).getUpsertedId() != null;
+        if (firstRead) {
+            addToReadPostFilterAfterCommit(userId, postId);
+        }
+        return firstRead;
+    }
+
+    // 상세 조회 트랜잭션이 롤백되면(코인 부족 등) 열람 기록도 사라지므로 커밋 후에만 필터에 반영
+    private void addToReadPostFilterAfterCommit(String userId, String postId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            readPostFilterCache.add(userId, postId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readPostFilterCache.add(userId, postId);
+            }
+        });
+    }
+
+    /**
+     * 열람한 게시글 여부를 메모리에서 판별하는 필터. 드물게 읽지 않은 글도 읽은 것으로 판단할 수 있다.
+     */
+    public Predicate<String> getReadPostFilter(String userId) {
+        return readPostFilterCache.getReadPosts(userId);
+    }
+
+    private record ReadCursor(LocalDateTime readAt, ObjectId historyId) {
+
+        private static final char SEPARATOR = ':';
+
+        static ReadCursor of(ReadPostFinder.ReadPost readPost) {
+            return new ReadCursor(readPost.readAt(), new ObjectId(readPost.id()));
+        }
+
+        static ReadCursor parse(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return null;
+            }
+
+            int separator = cursor.indexOf(SEPARATOR);
+            if (separator <= 0 || !ObjectId.isValid(cursor.substring(separator + 1))) {
+                throw new CustomException(ErrorCode.INVALID_INPUT);
+            }
+            try {
+                long epochMillis = Long.parseLong(cursor, 0, separator, 10);
+                LocalDateTime readAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+                return new ReadCursor(readAt, new ObjectId(cursor.substring(separator + 1)));
+            } catch (NumberFormatException ex) {
+                throw new CustomException(ErrorCode.INVALID_INPUT);
+            }
+        }
+
+        // readAt은 Date(밀리초)로 저장되므로 같은 정밀도로 직렬화해야 커서 비교가 어긋나지 않는다
+        String format() {
+            long epochMillis = readAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            return epochMillis + String.valueOf(SEPARATOR) + historyId.toHexString();
+        }
     }
 }
@@ -0,0 +1,75 @@
+package org.example.moomyeongso.domain.readhistory.service;
+
+import org.bson.types.ObjectId;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Predicate;
+
+/**
+ * 사용자가 열람한 게시글 id 집합의 블룸 필터.
+ * 오탐(읽지 않은 글을 읽었다고 판단)은 약 1%로, 추천에서 해당 글이 뒤로 밀리는 정도로만 영향을 준다.
+ * 설계 용량을 넘기면 오탐률이 올라가므로 add가 false를 반환하고, 호출 측에서 필터를 다시 만든다.
+ */
+class ReadPostBloomFilter implements Predicate<String> {
+
+    private static final int MIN_CAPACITY = 64;
+    private static final int BITS_PER_ENTRY = 10;
+    private static final int HASH_COUNT = 7;
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int capacity;
+    private final AtomicInteger size = new AtomicInteger();
+
+    ReadPostBloomFilter(int expectedEntries) {
+        this.capacity = Math.max(MIN_CAPACITY, expectedEntries * 2);
+        this.bitSize = (long) capacity * BITS_PER_ENTRY;
+        this.words = new AtomicLongArray(Math.toIntExact((bitSize + 63) >>> 6));
+    }
+
+    boolean add(String postId) {
+        long h1 = hash(postId);
+        long h2 = mix(h1) | 1L;
+        for (int i = 0; i < HASH_COUNT; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitSize);
+            int wordIndex = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long word;
+            do {
+                word = words.get(wordIndex);
+            } while ((word & mask) == 0 && !words.compareAndSet(wordIndex, word, word | mask));
+        }
+        return size.incrementAndGet() <= capacity;
+    }
+
+    @Override
+    public boolean test(String postId) {
+        long h1 = hash(postId);
+        long h2 = mix(h1) | 1L;
+        for (int i = 0; i < HASH_COUNT; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitSize);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long hash(String postId) {
+        if (!ObjectId.isValid(postId)) {
+            return mix(postId.hashCode());
+        }
+        long high = Long.parseUnsignedLong(postId, 0, 16, 16);
+        long low = Integer.parseUnsignedInt(postId, 16, 24, 16);
+        return mix(high ^ (low * 0x9E3779B97F4A7C15L));
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
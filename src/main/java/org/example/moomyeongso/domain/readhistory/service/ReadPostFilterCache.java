@@ -0,0 +1,123 @@
+package org.example.moomyeongso.domain.readhistory.service;
+
+import org.example.moomyeongso.domain.readhistory.entity.ReadHistory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * 사용자별 열람 게시글 블룸 필터 캐시.
+ * 처음 조회할 때 read_history의 postId만 읽어 만들고, 이후 열람 기록이 생기면 필터에 바로 추가한다.
+ * 다른 인스턴스에서 생긴 열람 기록은 TTL이 지나 다시 만들 때 반영된다.
+ * 필터를 만드는 동안 커밋된 열람 기록은 조회 결과에 빠져 있을 수 있으므로 따로 모아 두었다가 완성된 필터에 더한다.
+ */
+@Component
+public class ReadPostFilterCache {
+
+    private final MongoTemplate mongoTemplate;
+    private final long ttlMillis;
+
+    // 접근 순서 LRU. this로 동기화
+    private final Map<String, Entry> entries;
+    // 필터를 만드는 중인 사용자별 추가 기록. this로 동기화
+    private final Map<String, PendingAdds> pendingAdds = new HashMap<>();
+
+    public ReadPostFilterCache(
+            MongoTemplate mongoTemplate,
+            @Value("${app.read-history.filter-cache.max-users:10000}") int maxCachedUsers,
+            @Value("${app.read-history.filter-cache.ttl-ms:600000}") long ttlMillis
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxCachedUsers;
+            }
+        };
+    }
+
+    public Predicate<String> getReadPosts(String userId) {
+        long now = System.currentTimeMillis();
+        PendingAdds pending;
+        synchronized (this) {
+            Entry entry = entries.get(userId);
+            if (entry != null && now - entry.builtAt() < ttlMillis) {
+                return entry.filter();
+            }
+            pending = pendingAdds.computeIfAbsent(userId, key -> new PendingAdds());
+            pending.builders++;
+        }
+
+        ReadPostBloomFilter filter = null;
+        try {
+            filter = build(userId);
+        } finally {
+            synchronized (this) {
+                if (filter != null) {
+                    boolean withinCapacity = true;
+                    for (String postId : pending.postIds) {
+                        withinCapacity &= filter.add(postId);
+                    }
+                    if (withinCapacity) {
+                        entries.put(userId, new Entry(filter, now));
+                    }
+                }
+                if (--pending.builders == 0) {
+                    pendingAdds.remove(userId);
+                }
+            }
+        }
+        return filter;
+    }
+
+    /**
+     * 캐시된 필터가 있을 때만 추가한다. 용량을 넘긴 필터는 버리고 다음 조회 때 다시 만든다.
+     */
+    public void add(String userId, String postId) {
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(userId);
+            PendingAdds pending = pendingAdds.get(userId);
+            if (pending != null) {
+                pending.postIds.add(postId);
+            }
+        }
+        if (entry != null && !entry.filter().add(postId)) {
+            invalidate(userId);
+        }
+    }
+
+    public synchronized void invalidate(String userId) {
+        entries.remove(userId);
+    }
+
+    private ReadPostBloomFilter build(String userId) {
+        Query query = Query.query(Criteria.where("userId").is(userId));
+        query.fields().include("postId").exclude("_id");
+        List<ReadHistory> histories = mongoTemplate.find(query, ReadHistory.class);
+
+        ReadPostBloomFilter filter = new ReadPostBloomFilter(histories.size());
+        for (ReadHistory history : histories) {
+            filter.add(history.getPostId());
+        }
+        return filter;
+    }
+
+    private record Entry(ReadPostBloomFilter filter, long builtAt) {
+    }
+
+    private static final class PendingAdds {
+        private final List<String> postIds = new ArrayList<>();
+        private int builders;
+    }
+}
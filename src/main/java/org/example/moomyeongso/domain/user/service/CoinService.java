@@ -13,6 +13,8 @@ import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
+import java.util.OptionalInt;
+
 @Service
 @Slf4j
 @RequiredArgsConstructor
@@ -41,11 +43,18 @@ public class CoinService {
     }
 
     public boolean chargeIfEnough(String userId, int amount) {
+        return chargeAndGetBalance(userId, amount).isPresent();
+    }
+
+    /**
+     * 잔액이 충분하면 차감 후 차감된 잔액을 반환, 부족하면 empty
+     */
+    public OptionalInt chargeAndGetBalance(String userId, int amount) {
         Query q = Query.query(Criteria.where("_id").is(userId).and("coin").gte(amount));
         Update u = new Update().inc("coin", -amount);
         FindAndModifyOptions opt = FindAndModifyOptions.options().returnNew(true);
         User after = mongoTemplate.findAndModify(q, u, opt, User.class);
-        return after != null;
+        return after == null ? OptionalInt.empty() : OptionalInt.of(after.getCoin());
     }
 
     public void refund(String userId, int amount) {
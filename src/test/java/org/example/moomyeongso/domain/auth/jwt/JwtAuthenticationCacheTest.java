@@ -0,0 +1,95 @@
+package org.example.moomyeongso.domain.auth.jwt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtAuthenticationCacheTest {
+
+    private static final long ONE_HOUR = 60 * 60 * 1000L;
+
+    private JwtSecurityProperties properties;
+    private JwtAuthenticationCache cache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new JwtSecurityProperties();
+        properties.setAuthenticationCacheSize(10);
+        cache = new JwtAuthenticationCache(properties);
+    }
+
+    @Test
+    void returnsCachedAuthenticationForSameToken() {
+        Authentication authentication = authentication("user-1");
+        cache.put("header.payload.sig-1", "user-1", expiresIn(ONE_HOUR), authentication);
+
+        assertThat(cache.get("header.payload.sig-1")).isSameAs(authentication);
+    }
+
+    @Test
+    void signatureHitWithDifferentTokenIsMiss() {
+        cache.put("header.payload.sig-1", "user-1", expiresIn(ONE_HOUR), authentication("user-1"));
+
+        assertThat(cache.get("header.tampered.sig-1")).isNull();
+    }
+
+    @Test
+    void expiredEntryIsNotReturned() {
+        cache.put("header.payload.sig-1", "user-1", expiresIn(-1), authentication("user-1"));
+
+        assertThat(cache.get("header.payload.sig-1")).isNull();
+    }
+
+    @Test
+    void evictExpiredRemovesOnlyExpiredEntries() {
+        properties.setAuthenticationCacheSize(2);
+        cache.put("header.payload.expired", "user-1", expiresIn(-1), authentication("user-1"));
+        cache.put("header.payload.live", "user-2", expiresIn(ONE_HOUR), authentication("user-2"));
+
+        cache.evictExpired();
+        cache.put("header.payload.new", "user-3", expiresIn(ONE_HOUR), authentication("user-3"));
+
+        assertThat(cache.get("header.payload.live")).isNotNull();
+        assertThat(cache.get("header.payload.new")).isNotNull();
+    }
+
+    @Test
+    void fullCacheEvictsEntryThatExpiresFirst() {
+        properties.setAuthenticationCacheSize(2);
+        cache.put("header.payload.soon", "user-1", expiresIn(ONE_HOUR), authentication("user-1"));
+        cache.put("header.payload.later", "user-2", expiresIn(2 * ONE_HOUR), authentication("user-2"));
+
+        cache.put("header.payload.new", "user-3", expiresIn(3 * ONE_HOUR), authentication("user-3"));
+
+        assertThat(cache.get("header.payload.soon")).isNull();
+        assertThat(cache.get("header.payload.later")).isNotNull();
+        assertThat(cache.get("header.payload.new")).isNotNull();
+    }
+
+    @Test
+    void invalidateSubjectDropsOnlyThatUsersTokens() {
+        cache.put("header.payload.a1", "user-1", expiresIn(ONE_HOUR), authentication("user-1"));
+        cache.put("header.payload.a2", "user-1", expiresIn(ONE_HOUR), authentication("user-1"));
+        cache.put("header.payload.b1", "user-2", expiresIn(ONE_HOUR), authentication("user-2"));
+
+        cache.invalidateSubject("user-1");
+
+        assertThat(cache.get("header.payload.a1")).isNull();
+        assertThat(cache.get("header.payload.a2")).isNull();
+        assertThat(cache.get("header.payload.b1")).isNotNull();
+    }
+
+    private Date expiresIn(long millis) {
+        return new Date(System.currentTimeMillis() + millis);
+    }
+
+    private Authentication authentication(String subject) {
+        return new UsernamePasswordAuthenticationToken(subject, null, List.of());
+    }
+}
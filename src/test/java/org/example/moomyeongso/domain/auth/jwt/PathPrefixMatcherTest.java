@@ -0,0 +1,75 @@
+package org.example.moomyeongso.domain.auth.jwt;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PathPrefixMatcherTest {
+
+    private static final List<String> PREFIXES = List.of(
+            "/auth/anonymous",
+            "/auth/reissue",
+            "/auth/login",
+            "/notifications/metrics/today"
+    );
+
+    @Test
+    void matchesConfiguredPathAndItsSubPaths() {
+        PathPrefixMatcher matcher = PathPrefixMatcher.of(PREFIXES);
+
+        assertThat(matcher.matches("/auth/anonymous")).isTrue();
+        assertThat(matcher.matches("/auth/anonymous/extra")).isTrue();
+        assertThat(matcher.matches("/auth/login/")).isTrue();
+        assertThat(matcher.matches("/notifications/metrics/today")).isTrue();
+    }
+
+    @Test
+    void doesNotMatchAcrossSegmentBoundary() {
+        PathPrefixMatcher matcher = PathPrefixMatcher.of(PREFIXES);
+
+        assertThat(matcher.matches("/auth/login2")).isFalse();
+        assertThat(matcher.matches("/auth/loginAdmin")).isFalse();
+        assertThat(matcher.matches("/auth/reissued")).isFalse();
+        assertThat(matcher.matches("/notifications/metrics/todays")).isFalse();
+        assertThat(matcher.matches("/auth/re")).isFalse();
+        assertThat(matcher.matches("/auth/logout")).isFalse();
+        assertThat(matcher.matches("/notifications/metrics")).isFalse();
+        assertThat(matcher.matches("/posts")).isFalse();
+        assertThat(matcher.matches("")).isFalse();
+        assertThat(matcher.matches("/")).isFalse();
+    }
+
+    @Test
+    void longerPrefixStillMatchesWhenShorterOneStopsMidSegment() {
+        PathPrefixMatcher matcher = PathPrefixMatcher.of(List.of("/auth/login", "/auth/login2"));
+
+        assertThat(matcher.matches("/auth/login2")).isTrue();
+        assertThat(matcher.matches("/auth/login3")).isFalse();
+    }
+
+    @Test
+    void prefixEndingWithSlashMatchesEverythingBelowIt() {
+        PathPrefixMatcher matcher = PathPrefixMatcher.of(List.of("/public/"));
+
+        assertThat(matcher.matches("/public/a")).isTrue();
+        assertThat(matcher.matches("/public/")).isTrue();
+        assertThat(matcher.matches("/publicity")).isFalse();
+    }
+
+    @Test
+    void emptyPrefixMatchesEveryPath() {
+        PathPrefixMatcher matcher = PathPrefixMatcher.of(List.of(""));
+
+        assertThat(matcher.matches("/posts")).isTrue();
+        assertThat(matcher.matches("")).isTrue();
+    }
+
+    @Test
+    void emptyOrMissingConfigurationMatchesNothing() {
+        assertThat(PathPrefixMatcher.of(List.of()).matches("/auth/login")).isFalse();
+        assertThat(PathPrefixMatcher.of(null).matches("/auth/login")).isFalse();
+        assertThat(PathPrefixMatcher.of(PREFIXES).matches(null)).isFalse();
+    }
+}
@@ -0,0 +1,180 @@
+package org.example.moomyeongso.domain.auth.service;
+
+import io.jsonwebtoken.Claims;
+import org.example.moomyeongso.common.exception.CustomException;
+import org.example.moomyeongso.common.exception.ErrorCode;
+import org.example.moomyeongso.common.util.EncoderUtils;
+import org.example.moomyeongso.domain.auth.dto.request.ReissueRequestDto;
+import org.example.moomyeongso.domain.auth.dto.response.LoginResponseDto;
+import org.example.moomyeongso.domain.auth.entity.RefreshToken;
+import org.example.moomyeongso.domain.auth.jwt.JwtAuthenticationCache;
+import org.example.moomyeongso.domain.auth.jwt.JwtTokenProvider;
+import org.example.moomyeongso.domain.auth.jwt.RefreshTokenHasher;
+import org.example.moomyeongso.domain.auth.repository.RefreshTokenRepository;
+import org.example.moomyeongso.domain.user.entity.User;
+import org.example.moomyeongso.domain.user.entity.UserRole;
+import org.example.moomyeongso.domain.user.repository.UserRepository;
+import org.example.moomyeongso.domain.user.service.StreakService;
+import org.example.moomyeongso.domain.visithistory.service.VisitHistoryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuthServiceTest {
+
+    private static final String USER_ID = "user-1";
+    private static final String RAW_REFRESH_TOKEN = "3f1c2a9e-6b1d-4c1e-9a57-0d1e2f3a4b5c";
+
+    private UserRepository userRepository;
+    private RefreshTokenRepository refreshTokenRepository;
+    private JwtTokenProvider jwtTokenProvider;
+    private EncoderUtils encoderUtils;
+    private RefreshTokenHasher refreshTokenHasher;
+    private AuthService authService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        refreshTokenRepository = mock(RefreshTokenRepository.class);
+        jwtTokenProvider = mock(JwtTokenProvider.class);
+        encoderUtils = mock(EncoderUtils.class);
+        refreshTokenHasher = new RefreshTokenHasher("refresh-token-digest-secret-for-tests-0123456789");
+        authService = new AuthService(
+                userRepository,
+                refreshTokenRepository,
+                jwtTokenProvider,
+                encoderUtils,
+                mock(VisitHistoryService.class),
+                mock(StreakService.class),
+                mock(MigrationService.class),
+                mock(JwtAuthenticationCache.class),
+                refreshTokenHasher,
+                mock(TransactionTemplate.class)
+        );
+        ReflectionTestUtils.setField(authService, "refreshValidityInMs", 60_000L);
+
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(User.builder()
+                .id(USER_ID)
+                .userRole(UserRole.USER)
+                .build()));
+        when(jwtTokenProvider.createAccessToken(anyString(), anyString())).thenReturn("new-access-token");
+    }
+
+    @Test
+    void digestHitForSameSubjectIssuesNewDigestToken() {
+        givenAccessTokenSubject(USER_ID);
+        when(refreshTokenRepository.findByTokenDigest(refreshTokenHasher.digest(RAW_REFRESH_TOKEN)))
+                .thenReturn(Optional.of(digestRow(USER_ID, RAW_REFRESH_TOKEN)));
+
+        LoginResponseDto response = authService.reissueTokens(request());
+
+        assertThat(response.refreshToken()).isNotEqualTo(RAW_REFRESH_TOKEN);
+        RefreshToken saved = savedRefreshToken();
+        assertThat(saved.getTokenDigest()).isEqualTo(refreshTokenHasher.digest(response.refreshToken()));
+        assertThat(saved.getToken()).isNull();
+        verify(refreshTokenRepository).deleteByUserId(USER_ID);
+        verify(encoderUtils, never()).matches(anyString(), anyString());
+    }
+
+    @Test
+    void digestHitForOtherSubjectIsRejected() {
+        givenAccessTokenSubject("user-2");
+        when(refreshTokenRepository.findByTokenDigest(refreshTokenHasher.digest(RAW_REFRESH_TOKEN)))
+                .thenReturn(Optional.of(digestRow(USER_ID, RAW_REFRESH_TOKEN)));
+
+        assertThatThrownBy(() -> authService.reissueTokens(request()))
+                .isInstanceOfSatisfying(CustomException.class,
+                        ex -> assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.INVALID_TOKEN));
+        verify(refreshTokenRepository, never()).findByUserId(anyString());
+        verify(refreshTokenRepository, never()).deleteByUserId(anyString());
+        verify(refreshTokenRepository, never()).save(any(RefreshToken.class));
+    }
+
+    @Test
+    void legacyBcryptRowIsVerifiedAndReplacedByDigestRow() {
+        givenAccessTokenSubject(USER_ID);
+        when(refreshTokenRepository.findByTokenDigest(anyString())).thenReturn(Optional.empty());
+        when(refreshTokenRepository.findByUserId(USER_ID)).thenReturn(Optional.of(legacyRow("$2a$10$legacy")));
+        when(encoderUtils.matches(RAW_REFRESH_TOKEN, "$2a$10$legacy")).thenReturn(true);
+
+        LoginResponseDto response = authService.reissueTokens(request());
+
+        RefreshToken saved = savedRefreshToken();
+        assertThat(saved.getTokenDigest()).isEqualTo(refreshTokenHasher.digest(response.refreshToken()));
+        assertThat(saved.getToken()).isNull();
+        verify(refreshTokenRepository).deleteByUserId(USER_ID);
+    }
+
+    @Test
+    void legacyBcryptRowWithDifferentTokenIsRejected() {
+        givenAccessTokenSubject(USER_ID);
+        when(refreshTokenRepository.findByTokenDigest(anyString())).thenReturn(Optional.empty());
+        when(refreshTokenRepository.findByUserId(USER_ID)).thenReturn(Optional.of(legacyRow("$2a$10$legacy")));
+        when(encoderUtils.matches(RAW_REFRESH_TOKEN, "$2a$10$legacy")).thenReturn(false);
+
+        assertThatThrownBy(() -> authService.reissueTokens(request()))
+                .isInstanceOfSatisfying(CustomException.class,
+                        ex -> assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.INVALID_TOKEN));
+        verify(refreshTokenRepository, never()).save(any(RefreshToken.class));
+    }
+
+    @Test
+    void rowWithoutLegacyTokenIsRejectedWhenDigestMisses() {
+        givenAccessTokenSubject(USER_ID);
+        when(refreshTokenRepository.findByTokenDigest(anyString())).thenReturn(Optional.empty());
+        when(refreshTokenRepository.findByUserId(USER_ID))
+                .thenReturn(Optional.of(digestRow(USER_ID, "previously-issued-token")));
+
+        assertThatThrownBy(() -> authService.reissueTokens(request()))
+                .isInstanceOfSatisfying(CustomException.class,
+                        ex -> assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.INVALID_TOKEN));
+        verify(encoderUtils, never()).matches(anyString(), any());
+        verify(refreshTokenRepository, never()).save(any(RefreshToken.class));
+    }
+
+    private void givenAccessTokenSubject(String subject) {
+        Claims claims = mock(Claims.class);
+        when(claims.getSubject()).thenReturn(subject);
+        when(jwtTokenProvider.getClaimsEvenIfExpired("expired-access-token")).thenReturn(claims);
+    }
+
+    private ReissueRequestDto request() {
+        return new ReissueRequestDto("expired-access-token", RAW_REFRESH_TOKEN);
+    }
+
+    private RefreshToken digestRow(String userId, String rawToken) {
+        return RefreshToken.builder()
+                .userId(userId)
+                .tokenDigest(refreshTokenHasher.digest(rawToken))
+                .expiryDate(LocalDateTime.now().plusDays(1))
+                .build();
+    }
+
+    private RefreshToken legacyRow(String bcryptHash) {
+        return RefreshToken.builder()
+                .userId(USER_ID)
+                .token(bcryptHash)
+                .expiryDate(LocalDateTime.now().plusDays(1))
+                .build();
+    }
+
+    private RefreshToken savedRefreshToken() {
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,160 @@
+package org.example.moomyeongso.domain.post.repository;
+
+import org.bson.types.ObjectId;
+import org.example.moomyeongso.domain.post.entity.Post;
+import org.example.moomyeongso.domain.post.event.PostCreatedEvent;
+import org.example.moomyeongso.domain.post.event.PostDeletedEvent;
+import org.example.moomyeongso.domain.post.event.PostOwnerMigratedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RandomPostIndexTest {
+
+    private MongoTemplate mongoTemplate;
+    private RandomPostIndex randomPostIndex;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        randomPostIndex = new RandomPostIndex(mongoTemplate);
+    }
+
+    @Test
+    void rebuildLoadsActivePostsAndMarksIndexReady() {
+        String postId = new ObjectId().toHexString();
+        when(mongoTemplate.stream(any(Query.class), eq(Post.class)))
+                .thenReturn(Stream.of(post(postId, "user-1", List.of("HAPPY"))));
+
+        assertThat(randomPostIndex.isReady()).isFalse();
+        randomPostIndex.rebuild();
+
+        assertThat(randomPostIndex.isReady()).isTrue();
+        assertThat(randomPostIndex.newSampler("user-2").pick(7)).containsExactly(postId);
+    }
+
+    @Test
+    void pickExcludesOwnPostsAndNeverRepeatsWithinSampler() {
+        String own = created("user-1", List.of());
+        String first = created("user-2", List.of());
+        String second = created("user-3", List.of());
+
+        RandomPostIndex.Sampler sampler = randomPostIndex.newSampler("user-1");
+        List<String> picked = sampler.pick(7);
+
+        assertThat(picked).containsExactlyInAnyOrder(first, second).doesNotContain(own);
+        assertThat(sampler.pick(7)).isEmpty();
+    }
+
+    @Test
+    void pickTaggedOnlyReturnsPostsWithRequestedTags() {
+        String happy = created("user-2", List.of("HAPPY", "TIME"));
+        String time = created("user-3", List.of("TIME"));
+        created("user-4", List.of("PEOPLE"));
+        created("user-5", List.of());
+
+        RandomPostIndex.Sampler sampler = randomPostIndex.newSampler("user-1");
+
+        assertThat(sampler.pickTagged(List.of("HAPPY", "TIME", "UNKNOWN"), 3))
+                .containsExactlyInAnyOrder(happy, time);
+        assertThat(sampler.pick(7)).hasSize(2).doesNotContain(happy, time);
+    }
+
+    @Test
+    void deletedPostIsNoLongerPicked() {
+        String deleted = created("user-2", List.of("HAPPY"));
+        String remaining = created("user-3", List.of("HAPPY"));
+
+        randomPostIndex.onPostDeleted(new PostDeletedEvent(deleted));
+
+        assertThat(randomPostIndex.newSampler("user-1").pickTagged(List.of("HAPPY"), 3))
+                .containsExactly(remaining);
+    }
+
+    @Test
+    void migratedOwnerPostsAreExcludedForNewOwner() {
+        String migrated = created("anonymous-1", List.of());
+        String ownedByMember = created("member-1", List.of());
+        String other = created("user-2", List.of());
+
+        randomPostIndex.onPostOwnerMigrated(new PostOwnerMigratedEvent("anonymous-1", "member-1"));
+
+        assertThat(randomPostIndex.newSampler("member-1").pick(7))
+                .containsExactly(other)
+                .doesNotContain(migrated, ownedByMember);
+    }
+
+    @Test
+    void ownerIdsAreNotReusedAfterMigrationOntoExistingOwner() {
+        created("anonymous-1", List.of());
+        created("member-1", List.of());
+        String other = created("user-2", List.of());
+
+        randomPostIndex.onPostOwnerMigrated(new PostOwnerMigratedEvent("anonymous-1", "member-1"));
+        String newcomer = created("user-3", List.of());
+
+        assertThat(randomPostIndex.newSampler("user-3").pick(7))
+                .contains(other)
+                .doesNotContain(newcomer);
+        assertThat(randomPostIndex.newSampler("user-2").pick(7))
+                .contains(newcomer)
+                .doesNotContain(other);
+    }
+
+    @Test
+    void eventsDuringRebuildAreReplayedOntoRebuiltIndex() {
+        String deleted = new ObjectId().toHexString();
+        String kept = new ObjectId().toHexString();
+        String createdDuringRebuild = new ObjectId().toHexString();
+        when(mongoTemplate.stream(any(Query.class), eq(Post.class))).thenAnswer(invocation -> {
+            randomPostIndex.onPostDeleted(new PostDeletedEvent(deleted));
+            randomPostIndex.onPostCreated(new PostCreatedEvent(createdDuringRebuild, "user-3", List.of()));
+            randomPostIndex.onPostCreated(new PostCreatedEvent(kept, "user-2", List.of()));
+            return Stream.of(post(deleted, "user-2", List.of()), post(kept, "user-2", List.of()));
+        });
+
+        randomPostIndex.rebuild();
+
+        assertThat(randomPostIndex.newSampler("user-1").pick(7))
+                .containsExactlyInAnyOrder(kept, createdDuringRebuild);
+    }
+
+    @Test
+    void deprioritizedPostsOnlyFillRemainingGeneralSlots() {
+        String read = created("user-2", List.of("HAPPY"));
+        String unread = created("user-3", List.of("HAPPY"));
+        Set<String> readPosts = Set.of(read);
+
+        RandomPostIndex.Sampler tagged = randomPostIndex.newSampler("user-1", readPosts::contains);
+        assertThat(tagged.pickTagged(List.of("HAPPY"), 3)).containsExactly(unread);
+
+        RandomPostIndex.Sampler general = randomPostIndex.newSampler("user-1", readPosts::contains);
+        assertThat(general.pick(1)).containsExactly(unread);
+        assertThat(general.pick(1)).containsExactly(read);
+    }
+
+    private String created(String userId, List<String> tags) {
+        String postId = new ObjectId().toHexString();
+        randomPostIndex.onPostCreated(new PostCreatedEvent(postId, userId, tags));
+        return postId;
+    }
+
+    private Post post(String id, String userId, List<String> tags) {
+        return Post.builder()
+                .id(id)
+                .userId(userId)
+                .tags(tags)
+                .build();
+    }
+}
@@ -0,0 +1,103 @@
+package org.example.moomyeongso.domain.post.service;
+
+import com.mongodb.bulk.BulkWriteError;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.example.moomyeongso.domain.post.entity.Post;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostViewCountAggregatorTest {
+
+    private MongoTemplate mongoTemplate;
+    private BulkOperations bulk;
+    private PostViewCountAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        bulk = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(eq(BulkOperations.BulkMode.UNORDERED), eq(Post.class))).thenReturn(bulk);
+        aggregator = new PostViewCountAggregator(mongoTemplate);
+    }
+
+    @Test
+    void partialBulkFailureRequeuesOnlyFailedPosts() {
+        aggregator.increment("post-a", 0);
+        aggregator.increment("post-b", 0);
+        aggregator.increment("post-b", 0);
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        BulkOperationException partialFailure = mock(BulkOperationException.class);
+        when(bulk.execute()).thenAnswer(invocation -> {
+            verify(bulk, times(2)).updateOne(queries.capture(), any(Update.class));
+            int failedIndex = postIdsOf(queries.getAllValues()).indexOf("post-b");
+            when(partialFailure.getErrors())
+                    .thenReturn(List.of(new BulkWriteError(11000, "failed", new BsonDocument(), failedIndex)));
+            throw partialFailure;
+        });
+
+        aggregator.flush();
+
+        clearInvocations(bulk);
+        when(bulk.execute()).thenReturn(null);
+        ArgumentCaptor<Query> retried = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> retriedUpdates = ArgumentCaptor.forClass(Update.class);
+
+        aggregator.flush();
+
+        verify(bulk, times(1)).updateOne(retried.capture(), retriedUpdates.capture());
+        assertThat(postIdsOf(retried.getAllValues())).containsExactly("post-b");
+        assertThat(retriedUpdates.getValue().getUpdateObject().get("$inc", Document.class).get("views"))
+                .isEqualTo(2L);
+    }
+
+    @Test
+    void failedBulkRequeuesWholeBatch() {
+        aggregator.increment("post-a", 0);
+        when(bulk.execute()).thenThrow(new IllegalStateException("connection reset"));
+
+        aggregator.flush();
+
+        clearInvocations(bulk);
+        when(bulk.execute()).thenReturn(null);
+        aggregator.flush();
+
+        verify(bulk, times(1)).updateOne(any(Query.class), any(Update.class));
+    }
+
+    @Test
+    void viewsDoNotGoBackwardsWhenStoredValueWasReadBeforeFlush() {
+        assertThat(aggregator.increment("post-a", 10)).isEqualTo(11);
+        assertThat(aggregator.increment("post-a", 10)).isEqualTo(12);
+
+        aggregator.flush();
+
+        // flush 전에 views=10을 읽은 요청이 flush 후에 누적한다
+        assertThat(aggregator.increment("post-a", 10)).isEqualTo(12);
+        // flush가 반영된 문서를 읽은 요청
+        assertThat(aggregator.increment("post-a", 12)).isEqualTo(14);
+    }
+
+    private List<String> postIdsOf(List<Query> queries) {
+        return queries.stream()
+                .map(query -> query.getQueryObject().getString("_id"))
+                .toList();
+    }
+}
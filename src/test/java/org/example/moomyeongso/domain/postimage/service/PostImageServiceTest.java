@@ -4,20 +4,54 @@ import org.example.moomyeongso.common.config.aws.S3StorageProperties;
 import org.example.moomyeongso.common.exception.CustomException;
 import org.example.moomyeongso.domain.post.entity.PostImageAttachment;
 import org.example.moomyeongso.domain.postimage.entity.PostImage;
+import org.example.moomyeongso.domain.postimage.entity.PostImageBlob;
+import org.example.moomyeongso.domain.postimage.entity.PostImageJob;
+import org.example.moomyeongso.domain.postimage.entity.PostImageProcessingStatus;
 import org.example.moomyeongso.domain.postimage.entity.PostImageStatus;
+import org.example.moomyeongso.domain.postimage.repository.PostImageBlobStore;
+import org.example.moomyeongso.domain.postimage.repository.PostImageJobQueue;
 import org.example.moomyeongso.domain.postimage.repository.PostImageRepository;
+import org.example.moomyeongso.domain.postimage.repository.PostImageUploadLeases;
 import org.example.moomyeongso.domain.postimage.storage.ImageStorageService;
+import org.example.moomyeongso.common.exception.ErrorCode;
+import org.example.moomyeongso.domain.postimage.dto.response.PostImageUploadResponseDto;
+import org.example.moomyeongso.domain.postimage.storage.StoredImageObject;
+import org.example.moomyeongso.domain.postimage.storage.StoredObjectMetadata;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -25,21 +59,53 @@ import static org.mockito.Mockito.when;
 class PostImageServiceTest {
 
     private PostImageRepository postImageRepository;
+    private ImageProcessor imageProcessor;
+    private ImageStorageService imageStorageService;
+    private PostImageUploadExecutor postImageUploadExecutor;
+    private PostImageJobQueue postImageJobQueue;
+    private PostImageBlobStore postImageBlobStore;
+    private PostImageUploadLeases postImageUploadLeases;
+    private MongoTemplate mongoTemplate;
+    private Map<String, PostImageBlob> createdBlobs;
     private PostImageService postImageService;
 
     @BeforeEach
     void setUp() {
         postImageRepository = mock(PostImageRepository.class);
+        imageProcessor = mock(ImageProcessor.class);
+        imageStorageService = mock(ImageStorageService.class);
+        postImageUploadExecutor = new PostImageUploadExecutor();
+        postImageJobQueue = mock(PostImageJobQueue.class);
+        postImageBlobStore = mock(PostImageBlobStore.class);
+        postImageUploadLeases = mock(PostImageUploadLeases.class);
+        mongoTemplate = mock(MongoTemplate.class);
+        createdBlobs = new ConcurrentHashMap<>();
+        when(postImageBlobStore.create(any())).thenAnswer(invocation -> {
+            PostImageBlob blob = invocation.getArgument(0);
+            return createdBlobs.putIfAbsent(blob.getContentHash(), blob) == null;
+        });
+        when(postImageBlobStore.release(anyString(), anyLong()))
+                .thenAnswer(invocation -> createdBlobs.remove(invocation.<String>getArgument(0)));
         PostImageProperties properties = new PostImageProperties();
         postImageService = new PostImageService(
                 postImageRepository,
-                mock(ImageProcessor.class),
-                mock(ImageStorageService.class),
+                imageProcessor,
+                imageStorageService,
                 properties,
-                new S3StorageProperties()
+                new S3StorageProperties(),
+                postImageUploadExecutor,
+                postImageJobQueue,
+                postImageBlobStore,
+                postImageUploadLeases,
+                mongoTemplate
         );
     }
 
+    @AfterEach
+    void tearDown() {
+        postImageUploadExecutor.shutdown();
+    }
+
     @Test
     void attachImagesKeepsRequestOrderAndMarksImagesAttached() {
         String userId = "user-1";
@@ -107,6 +173,282 @@ class PostImageServiceTest {
         );
     }
 
+    @Test
+    void uploadImagesStoresOriginalsAndEnqueuesProcessingJobs() {
+        MultipartFile first = file("first.jpg");
+        MultipartFile second = file("second.jpg");
+        when(imageProcessor.inspect(any(), any())).thenReturn(new ImageMetadata(ImageFormat.JPEG, 100, 80));
+        when(imageStorageService.uploadAsync(any(InputStreamSource.class), anyLong(), anyString(), anyString()))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(stored(invocation.getArgument(2))));
+        when(postImageRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        PostImageUploadResponseDto response = postImageService.uploadImages(List.of(first, second), "user-1");
+
+        assertThat(response.images()).hasSize(2);
+        assertThat(response.images()).allSatisfy(image -> {
+            assertThat(image.imageId()).isNotNull();
+            assertThat(image.processingStatus()).isEqualTo(PostImageProcessingStatus.PROCESSING);
+            assertThat(image.thumbnailUrl()).isNull();
+        });
+        verify(imageStorageService).uploadAsync(eq(first), eq(first.getSize()), anyString(), eq("image/jpeg"));
+        verify(imageStorageService).uploadAsync(eq(second), eq(second.getSize()), anyString(), eq("image/jpeg"));
+        verify(imageStorageService, never()).upload(any(byte[].class), anyString(), anyString());
+        verify(imageProcessor, never()).createRenditions(any());
+
+        ArgumentCaptor<PostImageJob> jobs = ArgumentCaptor.forClass(PostImageJob.class);
+        verify(postImageJobQueue, times(2)).enqueue(jobs.capture());
+        assertThat(jobs.getAllValues()).extracting(PostImageJob::getContentHash)
+                .containsExactlyInAnyOrderElementsOf(createdBlobs.keySet());
+        // 중복 제거로 다른 사용자에게 내려가는 키에 올린 사용자가 드러나지 않는다
+        assertThat(jobs.getAllValues()).allSatisfy(job -> {
+            assertThat(job.getOriginalKey()).contains(job.getContentHash()).doesNotContain("user-1");
+            assertThat(job.getBaseKey()).startsWith(job.getContentHash().substring(0, 2) + "/" + job.getContentHash());
+        });
+    }
+
+    @Test
+    void uploadImagesReusesExistingBlobForSameContent() {
+        MultipartFile file = file("meme.jpg");
+        PostImageBlob existing = PostImageBlob.builder()
+                .contentHash("hash")
+                .storageKey("posts/original/user-0/meme.jpg")
+                .imageUrl("https://example.com/posts/original/user-0/meme.jpg")
+                .thumbnailStorageKey("posts/thumbnail/user-0/meme-512.jpg")
+                .thumbnailUrl("https://example.com/posts/thumbnail/user-0/meme-512.jpg")
+                .processingStatus(PostImageProcessingStatus.READY)
+                .refCount(2)
+                .build();
+        when(imageProcessor.inspect(any(), any())).thenReturn(new ImageMetadata(ImageFormat.JPEG, 100, 80));
+        when(postImageBlobStore.acquire(anyString())).thenReturn(existing);
+        when(postImageRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        PostImageUploadResponseDto response = postImageService.uploadImages(List.of(file), "user-1");
+
+        assertThat(response.images()).singleElement().satisfies(image -> {
+            assertThat(image.imageUrl()).isEqualTo(existing.getImageUrl());
+            assertThat(image.thumbnailUrl()).isEqualTo(existing.getThumbnailUrl());
+            assertThat(image.processingStatus()).isEqualTo(PostImageProcessingStatus.READY);
+        });
+        verify(imageStorageService, never()).uploadAsync(any(InputStreamSource.class), anyLong(), anyString(), anyString());
+        verifyNoInteractions(postImageJobQueue);
+    }
+
+    @Test
+    void uploadImagesReleasesCreatedBlobsWhenAnyUploadFails() {
+        MultipartFile first = file("a.jpg");
+        MultipartFile second = file("b.jpg");
+        when(imageProcessor.inspect(any(), any())).thenReturn(new ImageMetadata(ImageFormat.JPEG, 100, 80));
+        when(imageStorageService.uploadAsync(eq(first), anyLong(), anyString(), anyString()))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(stored(invocation.getArgument(2))));
+        when(imageStorageService.uploadAsync(eq(second), anyLong(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new CustomException(ErrorCode.IMAGE_UPLOAD_FAILED)));
+
+        assertThatThrownBy(() -> postImageService.uploadImages(List.of(first, second), "user-1"))
+                .isInstanceOf(CustomException.class);
+
+        ArgumentCaptor<List<String>> deletedKeys = ArgumentCaptor.forClass(List.class);
+        verify(imageStorageService).deleteAll(deletedKeys.capture());
+        assertThat(deletedKeys.getValue()).singleElement().asString().startsWith("posts/original");
+        assertThat(createdBlobs).isEmpty();
+        verify(postImageRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void cleanupDeletesSharedObjectsOnlyWhenLastReferenceIsReleased() {
+        PostImage shared = PostImage.builder()
+                .id("image-1")
+                .contentHash("shared")
+                .storageKey("posts/original/shared.jpg")
+                .status(PostImageStatus.DELETED)
+                .build();
+        PostImage last = PostImage.builder()
+                .id("image-2")
+                .contentHash("last")
+                .storageKey("posts/original/last.jpg")
+                .status(PostImageStatus.DELETED)
+                .build();
+        when(postImageRepository.findAllByStatusAndDeleteAfterLessThanEqual(any(), any(), any(Pageable.class)))
+                .thenReturn(List.of(shared, last));
+        when(imageStorageService.deleteAll(anyList())).thenReturn(List.of());
+        when(postImageBlobStore.releaseImages("shared", List.of("image-1"))).thenReturn(null);
+        when(postImageBlobStore.releaseImages("last", List.of("image-2"))).thenReturn(PostImageBlob.builder()
+                .contentHash("last")
+                .storageKey("posts/original/last.jpg")
+                .thumbnailStorageKey("posts/thumbnail/last-512.jpg")
+                .refCount(0)
+                .build());
+
+        postImageService.cleanupExpiredImages();
+
+        InOrder inOrder = inOrder(postImageBlobStore, postImageRepository, imageStorageService);
+        inOrder.verify(postImageBlobStore).releaseImages("last", List.of("image-2"));
+        inOrder.verify(postImageRepository).deleteAllById(List.of("image-1", "image-2"));
+        inOrder.verify(imageStorageService).deleteAll(List.of("posts/original/last.jpg", "posts/thumbnail/last-512.jpg"));
+        inOrder.verify(postImageBlobStore).remove("last");
+        verify(postImageBlobStore, never()).remove("shared");
+        verify(imageStorageService, never()).delete(anyString());
+    }
+
+    @Test
+    void cleanupKeepsImagesWhoseReferenceCouldNotBeReleased() {
+        PostImage image = PostImage.builder()
+                .id("image-1")
+                .contentHash("shared")
+                .storageKey("posts/original/shared.jpg")
+                .status(PostImageStatus.DELETED)
+                .build();
+        when(postImageRepository.findAllByStatusAndDeleteAfterLessThanEqual(any(), any(), any(Pageable.class)))
+                .thenReturn(List.of(image));
+        when(postImageBlobStore.releaseImages("shared", List.of("image-1")))
+                .thenThrow(new IllegalStateException("mongo down"));
+
+        postImageService.cleanupExpiredImages();
+
+        verify(postImageRepository).deleteAllById(List.of());
+        verify(postImageBlobStore, never()).completeRelease(anyString(), anyList());
+    }
+
+    @Test
+    void cleanupKeepsUnreferencedBlobUntilItsObjectsAreDeleted() {
+        PostImageBlob failed = PostImageBlob.builder()
+                .contentHash("failed")
+                .storageKey("posts/original/failed.jpg")
+                .refCount(0)
+                .build();
+        PostImageBlob purged = PostImageBlob.builder()
+                .contentHash("purged")
+                .storageKey("posts/original/purged.jpg")
+                .refCount(0)
+                .build();
+        when(postImageBlobStore.findUnreferenced(anyInt())).thenReturn(List.of(failed, purged));
+        when(imageStorageService.deleteAll(anyList())).thenReturn(List.of("posts/original/failed.jpg"));
+
+        postImageService.cleanupExpiredImages();
+
+        verify(postImageBlobStore).remove("purged");
+        verify(postImageBlobStore, never()).remove("failed");
+    }
+
+    @Test
+    void cleanupDrainsPagesAndKeepsImagesWhoseObjectsFailedToDelete() {
+        List<PostImage> firstPage = IntStream.range(0, 200)
+                .mapToObj(i -> ownedImage("image-" + i))
+                .toList();
+        PostImage failed = ownedImage("image-failed");
+        when(postImageRepository.findAllByStatusAndDeleteAfterLessThanEqual(any(), any(), any(Pageable.class)))
+                .thenReturn(firstPage, List.of(failed));
+        when(imageStorageService.deleteAll(anyList()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(failed.getStorageKey()));
+
+        postImageService.cleanupExpiredImages();
+
+        verify(postImageRepository, times(2))
+                .findAllByStatusAndDeleteAfterLessThanEqual(any(), any(), any(Pageable.class));
+        verify(imageStorageService, times(2)).deleteAll(anyList());
+        verify(postImageRepository).deleteAllById(firstPage.stream().map(PostImage::getId).toList());
+        verify(postImageRepository).deleteAllById(List.of());
+    }
+
+    @Test
+    void finalizeDirectUploadsRegistersUploadedObjectAndEnqueuesProcessing() throws IOException {
+        String userId = "user-1";
+        PostImage reserved = reservedImage("image-1", userId);
+        MultipartFile uploaded = file("direct.jpg");
+        when(postImageRepository.findAllByIdInAndUserId(List.of("image-1"), userId)).thenReturn(List.of(reserved));
+        when(postImageUploadLeases.claim("image-1")).thenReturn(reserved);
+        when(imageStorageService.findMetadata(reserved.getStorageKey()))
+                .thenReturn(new StoredObjectMetadata(uploaded.getSize(), "a".repeat(64)));
+        when(imageStorageService.readHead(eq(reserved.getStorageKey()), anyInt())).thenReturn(uploaded.getBytes());
+        when(imageProcessor.inspect(any(), any())).thenReturn(new ImageMetadata(ImageFormat.JPEG, 100, 80));
+        when(postImageRepository.save(any(PostImage.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        postImageService.finalizeDirectUploads(List.of("image-1"), userId);
+
+        assertThat(reserved.getProcessingStatus()).isEqualTo(PostImageProcessingStatus.PROCESSING);
+        assertThat(reserved.getContentHash()).isEqualTo("a".repeat(64)).isIn(createdBlobs.keySet());
+        assertThat(reserved.getUploadLeaseUntil()).isNull();
+        ArgumentCaptor<PostImageJob> job = ArgumentCaptor.forClass(PostImageJob.class);
+        verify(postImageJobQueue).enqueue(job.capture());
+        assertThat(job.getValue().getOriginalKey()).isEqualTo(reserved.getStorageKey());
+        verify(imageStorageService, never()).delete(anyString());
+        verify(imageStorageService, never()).download(anyString());
+    }
+
+    @Test
+    void uploadImagesAppliesRenditionsFinishedBeforeSaveWithoutOverwritingImage() {
+        MultipartFile file = file("fast.jpg");
+        when(imageProcessor.inspect(any(), any())).thenReturn(new ImageMetadata(ImageFormat.JPEG, 100, 80));
+        when(imageStorageService.uploadAsync(any(InputStreamSource.class), anyLong(), anyString(), anyString()))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(stored(invocation.getArgument(2))));
+        when(postImageRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(postImageBlobStore.find(anyString())).thenReturn(PostImageBlob.builder()
+                .thumbnailUrl("https://example.com/posts/thumbnail/fast-512.jpg")
+                .processingStatus(PostImageProcessingStatus.READY)
+                .build());
+        PostImage processed = PostImage.builder()
+                .id("image-1")
+                .thumbnailUrl("https://example.com/posts/thumbnail/fast-512.jpg")
+                .processingStatus(PostImageProcessingStatus.READY)
+                .build();
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(PostImage.class)))
+                .thenReturn(processed);
+
+        PostImageUploadResponseDto response = postImageService.uploadImages(List.of(file), "user-1");
+
+        assertThat(response.images()).singleElement().satisfies(image -> {
+            assertThat(image.processingStatus()).isEqualTo(PostImageProcessingStatus.READY);
+            assertThat(image.thumbnailUrl()).isEqualTo(processed.getThumbnailUrl());
+        });
+        verify(postImageRepository, never()).save(any(PostImage.class));
+    }
+
+    @Test
+    void finalizeStaleDirectUploadsDiscardsReservationWithoutUploadedObject() {
+        PostImage reserved = reservedImage("image-1", "user-1");
+        when(postImageRepository.findAllByProcessingStatusAndCreatedAtBefore(
+                eq(PostImageProcessingStatus.UPLOADING), any(), any(Pageable.class)
+        )).thenReturn(List.of(reserved));
+        when(postImageUploadLeases.claim("image-1")).thenReturn(reserved);
+        when(imageStorageService.findMetadata(reserved.getStorageKey())).thenReturn(null);
+
+        postImageService.finalizeStaleDirectUploads();
+
+        verify(imageStorageService).delete(reserved.getStorageKey());
+        verify(postImageRepository).deleteAll(List.of(reserved));
+        verifyNoInteractions(postImageJobQueue);
+    }
+
+    private PostImage reservedImage(String id, String userId) {
+        return PostImage.builder()
+                .id(id)
+                .userId(userId)
+                .storageKey("posts/original/" + userId + "/" + id + ".jpg")
+                .imageUrl("https://example.com/posts/original/" + userId + "/" + id + ".jpg")
+                .contentType("image/jpeg")
+                .processingStatus(PostImageProcessingStatus.UPLOADING)
+                .build();
+    }
+
+    private MultipartFile file(String name) {
+        byte[] signature = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF};
+        byte[] content = Arrays.copyOf(signature, signature.length + name.length());
+        System.arraycopy(name.getBytes(StandardCharsets.UTF_8), 0, content, signature.length, name.length());
+        return new MockMultipartFile("files", name, "image/jpeg", content);
+    }
+
+    private PostImage ownedImage(String id) {
+        return PostImage.builder()
+                .id(id)
+                .storageKey("posts/original/" + id + ".jpg")
+                .status(PostImageStatus.DELETED)
+                .build();
+    }
+
+    private StoredImageObject stored(String key) {
+        return new StoredImageObject(key, "https://example.com/" + key);
+    }
+
     private PostImage image(String id) {
         return PostImage.builder()
                 .id(id)
@@ -0,0 +1,58 @@
+package org.example.moomyeongso.domain.postimage.storage;
+
+import org.example.moomyeongso.common.config.LocalStorageProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalImageStorageServiceTest {
+
+    @TempDir
+    Path root;
+
+    private LocalImageStorageService storage;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        LocalStorageProperties properties = new LocalStorageProperties();
+        properties.setRootDir(root.toString());
+        properties.setPublicBaseUrl("http://localhost/api/images/");
+        storage = new LocalImageStorageService(properties);
+    }
+
+    @Test
+    void uploadWritesIntoShardedDirectoryAndReturnsPublicUrl() throws IOException {
+        String key = "posts/original/user-1/a.jpg";
+
+        StoredImageObject stored = storage.upload(new byte[]{1, 2, 3}, key, "image/jpeg");
+
+        Path file = storage.resolve(key);
+        assertThat(stored.url()).isEqualTo("http://localhost/api/images/" + key);
+        assertThat(root.relativize(file).getNameCount()).isEqualTo(3);
+        assertThat(file.getFileName().toString()).endsWith(".jpg");
+        assertThat(Files.readAllBytes(file)).containsExactly(1, 2, 3);
+        try (InputStream input = storage.download(key).getInputStream()) {
+            assertThat(input.readAllBytes()).containsExactly(1, 2, 3);
+        }
+    }
+
+    @Test
+    void deleteAllRemovesFilesAndIgnoresMissingKeys() {
+        storage.upload(new byte[]{1}, "posts/original/a.jpg", "image/jpeg");
+        storage.upload(new byte[]{2}, "posts/thumbnails/a-512.jpg", "image/jpeg");
+
+        List<String> failed = storage.deleteAll(List.of("posts/original/a.jpg", "posts/thumbnails/a-512.jpg", "missing.jpg"));
+
+        assertThat(failed).isEmpty();
+        assertThat(storage.resolve("posts/original/a.jpg")).doesNotExist();
+        assertThat(storage.resolve("posts/thumbnails/a-512.jpg")).doesNotExist();
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.moomyeongso.domain.readhistory.service;
+
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadPostBloomFilterTest {
+
+    @Test
+    void addedPostsAreAlwaysReported() {
+        ReadPostBloomFilter filter = new ReadPostBloomFilter(5_000);
+        List<String> postIds = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            String postId = new ObjectId().toHexString();
+            postIds.add(postId);
+            assertThat(filter.add(postId)).isTrue();
+        }
+
+        assertThat(postIds).allMatch(filter);
+    }
+
+    @Test
+    void nonObjectIdPostIdsAreSupported() {
+        ReadPostBloomFilter filter = new ReadPostBloomFilter(0);
+
+        filter.add("legacy-post");
+
+        assertThat(filter.test("legacy-post")).isTrue();
+    }
+
+    @Test
+    void falsePositiveRateStaysLowWithinCapacity() {
+        ReadPostBloomFilter filter = new ReadPostBloomFilter(5_000);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add(new ObjectId().toHexString());
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.test(new ObjectId().toHexString())) {
+                falsePositives++;
+            }
+        }
+
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    @Test
+    void addReportsOverflowPastCapacity() {
+        ReadPostBloomFilter filter = new ReadPostBloomFilter(32);
+        for (int i = 0; i < 64; i++) {
+            assertThat(filter.add(new ObjectId().toHexString())).isTrue();
+        }
+
+        assertThat(filter.add(new ObjectId().toHexString())).isFalse();
+    }
+}
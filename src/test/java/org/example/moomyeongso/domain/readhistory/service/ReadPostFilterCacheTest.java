@@ -0,0 +1,113 @@
+package org.example.moomyeongso.domain.readhistory.service;
+
+import org.bson.types.ObjectId;
+import org.example.moomyeongso.domain.readhistory.entity.ReadHistory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReadPostFilterCacheTest {
+
+    private static final long TEN_MINUTES = 10 * 60 * 1000L;
+
+    private MongoTemplate mongoTemplate;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        when(mongoTemplate.find(any(Query.class), eq(ReadHistory.class))).thenReturn(List.of());
+    }
+
+    @Test
+    void buildsFilterFromReadHistoryOnce() {
+        String read = new ObjectId().toHexString();
+        when(mongoTemplate.find(any(Query.class), eq(ReadHistory.class)))
+                .thenReturn(List.of(history("user-1", read)));
+        ReadPostFilterCache cache = new ReadPostFilterCache(mongoTemplate, 10, TEN_MINUTES);
+
+        Predicate<String> first = cache.getReadPosts("user-1");
+        Predicate<String> second = cache.getReadPosts("user-1");
+
+        assertThat(first.test(read)).isTrue();
+        assertThat(second).isSameAs(first);
+        verify(mongoTemplate, times(1)).find(any(Query.class), eq(ReadHistory.class));
+    }
+
+    @Test
+    void expiredFilterIsRebuilt() {
+        ReadPostFilterCache cache = new ReadPostFilterCache(mongoTemplate, 10, 0);
+
+        Predicate<String> first = cache.getReadPosts("user-1");
+        Predicate<String> second = cache.getReadPosts("user-1");
+
+        assertThat(second).isNotSameAs(first);
+        verify(mongoTemplate, times(2)).find(any(Query.class), eq(ReadHistory.class));
+    }
+
+    @Test
+    void leastRecentlyUsedUserIsEvicted() {
+        ReadPostFilterCache cache = new ReadPostFilterCache(mongoTemplate, 2, TEN_MINUTES);
+        Predicate<String> user1 = cache.getReadPosts("user-1");
+        Predicate<String> user2 = cache.getReadPosts("user-2");
+
+        cache.getReadPosts("user-1");
+        cache.getReadPosts("user-3");
+
+        assertThat(cache.getReadPosts("user-1")).isSameAs(user1);
+        assertThat(cache.getReadPosts("user-2")).isNotSameAs(user2);
+    }
+
+    @Test
+    void addedPostIsVisibleInCachedFilter() {
+        ReadPostFilterCache cache = new ReadPostFilterCache(mongoTemplate, 10, TEN_MINUTES);
+        Predicate<String> filter = cache.getReadPosts("user-1");
+        String postId = new ObjectId().toHexString();
+
+        cache.add("user-1", postId);
+
+        assertThat(filter.test(postId)).isTrue();
+        assertThat(cache.getReadPosts("user-1").test(postId)).isTrue();
+    }
+
+    @Test
+    void postAddedWhileBuildingIsVisibleInBuiltFilter() {
+        ReadPostFilterCache cache = new ReadPostFilterCache(mongoTemplate, 10, TEN_MINUTES);
+        String postId = new ObjectId().toHexString();
+        // 조회가 끝난 뒤 커밋된 열람 기록
+        when(mongoTemplate.find(any(Query.class), eq(ReadHistory.class))).thenAnswer(invocation -> {
+            cache.add("user-1", postId);
+            return List.of();
+        });
+
+        assertThat(cache.getReadPosts("user-1").test(postId)).isTrue();
+    }
+
+    @Test
+    void invalidatedFilterIsRebuilt() {
+        ReadPostFilterCache cache = new ReadPostFilterCache(mongoTemplate, 10, TEN_MINUTES);
+        Predicate<String> first = cache.getReadPosts("user-1");
+
+        cache.invalidate("user-1");
+
+        assertThat(cache.getReadPosts("user-1")).isNotSameAs(first);
+    }
+
+    private ReadHistory history(String userId, String postId) {
+        return ReadHistory.builder()
+                .userId(userId)
+                .postId(postId)
+                .build();
+    }
+}